@@ -0,0 +1,158 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import oncomm.accounting.dto.RuleConditionsDto;
+import oncomm.accounting.dto.RulesDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 규칙/거래 내역 생성 (고정 시드로 실행 간 동일한 입력 보장)
+ */
+final class BenchmarkData {
+
+    static final String[] MERCHANTS = {
+            "네이버페이", "스타벅스", "쿠팡", "카카오페이", "배달의민족", "GS25", "CU편의점", "이마트",
+            "한국전력공사", "KT통신요금", "국민건강보험공단", "오피스디포", "우체국택배", "구글광고", "AWS"
+    };
+    private static final String[] SUFFIXES = {"(주)", " 정산", " 결제", " 자동이체", " 환불", " 강남점", " 온라인"};
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int KEYWORDS_PER_CATEGORY = 50;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 키워드 수만큼 규칙 생성 (가맹점명 + 일련번호, 일부는 실제 가맹점명)
+     */
+    static RulesDto rules(int keywordCount) {
+        List<RulesDto.CategoryRule> categories = new ArrayList<>();
+        int categoryIndex = 0;
+        for (int from = 0; from < keywordCount; from += KEYWORDS_PER_CATEGORY) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = from; i < Math.min(from + KEYWORDS_PER_CATEGORY, keywordCount); i++) {
+                keywords.add(i < MERCHANTS.length ? MERCHANTS[i] : MERCHANTS[i % MERCHANTS.length] + i);
+            }
+            RulesDto.CategoryRule category = new RulesDto.CategoryRule();
+            category.setCategoryId("cat_" + categoryIndex);
+            category.setCategoryName("계정과목 " + categoryIndex);
+            category.setKeywords(keywords);
+            categories.add(category);
+            categoryIndex++;
+        }
+
+        RulesDto.CompanyRule company = new RulesDto.CompanyRule();
+        company.setCompanyId("com_1");
+        company.setCompanyName("벤치마크 커머스");
+        company.setCategories(categories);
+
+        RulesDto rules = new RulesDto();
+        rules.setCompanies(List.of(company));
+        return rules;
+    }
+
+    /**
+     * 조건이 붙은 규칙 (짝수 계정과목은 출금 10만원 이하, 홀수 계정과목은 입금)
+     * - 홀수 계정과목은 앞 계정과목과 같은 키워드를 써서 키워드마다 조건이 다른 후보가 두 개씩 생김
+     */
+    static RulesDto conditionalRules(int keywordCount) {
+        RulesDto rules = rules(keywordCount);
+        List<RulesDto.CategoryRule> categories = rules.getCompanies().get(0).getCategories();
+        for (int i = 0; i < categories.size(); i++) {
+            RuleConditionsDto conditions = new RuleConditionsDto();
+            if (i % 2 == 0) {
+                conditions.setDirection("withdrawal");
+                conditions.setMaxAmount(100_000L);
+            } else {
+                conditions.setDirection("deposit");
+                categories.get(i).setKeywords(categories.get(i - 1).getKeywords());
+            }
+            categories.get(i).setConditions(conditions);
+        }
+        return rules;
+    }
+
+    /**
+     * 규칙에 대응하는 저장된 규칙 트리 (PK는 선언 순서대로 부여)
+     */
+    static List<CompanyDto> storedCompanies(RulesDto rules) {
+        List<CompanyDto> companies = new ArrayList<>();
+        long id = 1;
+        for (RulesDto.CompanyRule companyRule : rules.getCompanies()) {
+            CompanyDto company = new CompanyDto();
+            company.setId(id);
+            company.setCompanyId(companyRule.getCompanyId());
+            company.setCompanyName(companyRule.getCompanyName());
+            List<CategoryDto> categories = new ArrayList<>();
+            for (RulesDto.CategoryRule categoryRule : companyRule.getCategories()) {
+                CategoryDto category = new CategoryDto();
+                category.setId(id++);
+                category.setCategoryId(categoryRule.getCategoryId());
+                category.setCategoryName(categoryRule.getCategoryName());
+                category.setKeywords(categoryRule.getKeywords());
+                category.setConditions(categoryRule.getConditions());
+                categories.add(category);
+            }
+            company.setCategories(categories);
+            companies.add(company);
+        }
+        return companies;
+    }
+
+    static List<String> descriptions(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> descriptions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String merchant = MERCHANTS[random.nextInt(MERCHANTS.length)];
+            // 약 20%는 어떤 키워드와도 맞지 않는 적요
+            descriptions.add(random.nextInt(5) == 0
+                    ? "기타거래 " + random.nextInt(100_000)
+                    : merchant + SUFFIXES[random.nextInt(SUFFIXES.length)] + " " + random.nextInt(10_000));
+        }
+        return descriptions;
+    }
+
+    static List<BankTransactionDto> transactions(int count, long seed) {
+        List<String> descriptions = descriptions(count, seed);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0, 0);
+        List<BankTransactionDto> transactions = new ArrayList<>(count);
+        long balance = 10_000_000L;
+        for (int i = 0; i < count; i++) {
+            BankTransactionDto dto = new BankTransactionDto();
+            dto.setTransactionDate(base.plusMinutes(i));
+            dto.setDescription(descriptions.get(i));
+            long deposit = i % 3 == 0 ? 150_000L : 0L;
+            long withdrawal = i % 3 == 0 ? 0L : 25_000L;
+            balance += deposit - withdrawal;
+            dto.setDepositAmount(deposit);
+            dto.setWithdrawalAmount(withdrawal);
+            dto.setBalanceAfter(balance);
+            dto.setBranch(i % 2 == 0 ? "온라인" : "강남점");
+            transactions.add(dto);
+        }
+        return transactions;
+    }
+
+    /**
+     * 업로드 형식과 같은 CSV 바이트
+     */
+    static byte[] csv(int count, long seed) {
+        StringBuilder csv = new StringBuilder("거래일시,적요,입금액,출금액,거래후잔액,거래점\n");
+        for (BankTransactionDto dto : transactions(count, seed)) {
+            csv.append(dto.getTransactionDate().format(DATE_TIME_FORMATTER)).append(',')
+                    .append(dto.getDescription()).append(',')
+                    .append(dto.getDepositAmount() == 0 ? "" : dto.getDepositAmount()).append(',')
+                    .append(dto.getWithdrawalAmount() == 0 ? "" : dto.getWithdrawalAmount()).append(',')
+                    .append(dto.getBalanceAfter()).append(',')
+                    .append(dto.getBranch()).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,48 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import oncomm.accounting.entity.BankTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장 직전 단계(중복 판별용 지문 계산, DTO → 엔티티 변환) 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IngestionMappingBenchmark {
+
+    private BankTransactionDto[] transactions;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<BankTransactionDto> generated = BenchmarkData.transactions(1024, 42);
+        transactions = generated.toArray(new BankTransactionDto[0]);
+    }
+
+    @Benchmark
+    public String fingerprint() {
+        return TransactionFingerprint.of(transactions[cursor++ & (transactions.length - 1)]);
+    }
+
+    @Benchmark
+    public BankTransaction toEntity() {
+        return IngestionChunkWriter.toEntity(transactions[cursor++ & (transactions.length - 1)], "fingerprint");
+    }
+}
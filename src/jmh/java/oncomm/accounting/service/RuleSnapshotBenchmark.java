@@ -0,0 +1,63 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import oncomm.accounting.dto.CompanyDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 컴파일(저장된 규칙 트리로 키워드 매처 생성)과 거래 분류 비용
+ * - conditions=true면 계정과목마다 방향/금액 구간 조건을 붙이고 일부 키워드를 여러 계정과목이 공유
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleSnapshotBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int keywordCount;
+
+    @Param({"false", "true"})
+    private boolean conditions;
+
+    private List<CompanyDto> companies;
+    private RuleSnapshot snapshot;
+    private BankTransactionDto[] transactions;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        companies = BenchmarkData.storedCompanies(
+                conditions ? BenchmarkData.conditionalRules(keywordCount) : BenchmarkData.rules(keywordCount));
+        snapshot = RuleSnapshot.compile("benchmark", companies);
+        List<BankTransactionDto> generated = BenchmarkData.transactions(4096, 42);
+        transactions = generated.toArray(new BankTransactionDto[0]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RuleSnapshot compile() {
+        return RuleSnapshot.compile("benchmark", companies);
+    }
+
+    @Benchmark
+    public CategoryInfo classify() {
+        BankTransactionDto transaction = transactions[cursor++ & (transactions.length - 1)];
+        return snapshot.classify(transaction);
+    }
+}
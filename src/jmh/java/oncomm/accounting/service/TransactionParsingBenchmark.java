@@ -0,0 +1,78 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 CSV 파싱과 필드 단위 파싱 비용
+ * - parseCsv는 전용 파서(fast)와 Commons CSV(commons) 엔진을 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionParsingBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"fast", "commons"})
+    private String engine;
+
+    private byte[] csv;
+    private String[] amounts;
+    private String[] dateTimes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        csv = BenchmarkData.csv(rows, 42);
+        amounts = new String[]{"150000", "", "25000", " 1234567 ", "0", "98765432", "", "500"};
+        dateTimes = new String[]{"2025-01-01 09:00:00", "2025-03-15 13:45:12", "2024-12-31 23:59:59",
+                "2025-07-04 00:00:01", "2025-02-28 18:30:00", "2025-11-11 11:11:11", "2025-05-05 05:05:05",
+                "2025-08-15 08:15:00"};
+    }
+
+    /**
+     * 파일 전체 파싱 (행당 시간 = 결과 / rows)
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void parseCsv(Blackhole blackhole) throws IOException {
+        try (TransactionReader reader = TransactionReader.open(new ByteArrayInputStream(csv), engine)) {
+            while (reader.hasNext()) {
+                BankTransactionDto dto = reader.next();
+                blackhole.consume(dto);
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Long parseAmount() {
+        return TransactionCsvReader.parseAmount(amounts[cursor++ & (amounts.length - 1)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public LocalDateTime parseDateTime() {
+        return TransactionCsvReader.parseDateTime(dateTimes[cursor++ & (dateTimes.length - 1)]);
+    }
+}
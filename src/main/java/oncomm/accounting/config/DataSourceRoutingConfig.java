@@ -0,0 +1,77 @@
+package oncomm.accounting.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 읽기 전용 DataSource 분리 설정 (accounting.datasource.read.url 이 있을 때만 적용)
+ * - primary 풀: spring.datasource.*, 읽기 풀: accounting.datasource.read.*
+ * - 두 Hikari 풀은 각각 빈으로 등록되어 hikaricp.* 지표가 pool=primary / pool=read 로 나뉜다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accounting.datasource.read", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("accounting.datasource.read.hikari")
+    public HikariDataSource readDataSource(@Value("${accounting.datasource.read.url}") String url,
+                                           @Value("${accounting.datasource.read.username:${spring.datasource.username:}}") String username,
+                                           @Value("${accounting.datasource.read.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("read");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("readDataSource") DataSource readDataSource,
+                                               @Value("${accounting.datasource.read.lag-check:mysql}") String lagCheck,
+                                               @Value("${accounting.datasource.read.max-lag:5s}") Duration maxLag,
+                                               @Value("${accounting.datasource.read.check-interval:5s}") Duration checkInterval,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(readDataSource, ReplicaLagMonitor.LagCheck.valueOf(lagCheck.toUpperCase(Locale.ROOT)),
+                maxLag, checkInterval, meterRegistry);
+    }
+
+    /**
+     * JPA/JdbcTemplate이 사용하는 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryDataSource, readDataSource, replicaLagMonitor::isReadPoolUsable, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
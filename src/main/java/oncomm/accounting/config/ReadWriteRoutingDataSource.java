@@ -0,0 +1,61 @@
+package oncomm.accounting.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ * - readOnly 트랜잭션은 읽기 풀, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 primary 풀로 보낸다
+ * - 읽기 풀이 복제 지연 등으로 사용할 수 없으면 readOnly 트랜잭션도 primary로 보낸다
+ * - 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        READ
+    }
+
+    private final BooleanSupplier readPoolUsable;
+    private final Counter primaryRoutes;
+    private final Counter readRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource read, BooleanSupplier readPoolUsable,
+                                      MeterRegistry meterRegistry) {
+        this.readPoolUsable = readPoolUsable;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.READ, read));
+        setDefaultTargetDataSource(primary);
+
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.readRoutes = routeCounter(meterRegistry, "read");
+        this.fallbackRoutes = routeCounter(meterRegistry, "fallback");
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("accounting.datasource.route")
+                .description("Connections handed out by the routing data source")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return Target.PRIMARY;
+        }
+        if (!readPoolUsable.getAsBoolean()) {
+            fallbackRoutes.increment();
+            return Target.PRIMARY;
+        }
+        readRoutes.increment();
+        return Target.READ;
+    }
+}
@@ -0,0 +1,108 @@
+package oncomm.accounting.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 풀 복제 지연 감시
+ * - 주기적으로 읽기 DB의 복제 지연을 확인해 허용치를 넘거나 확인에 실패하면 읽기 풀을 사용 불가로 표시
+ * - mysql: SHOW REPLICA STATUS 의 Seconds_Behind_Source (복제 설정이 없는 DB는 지연 0으로 취급)
+ * - none: 확인하지 않음 (로컬에서 별도 스키마를 읽기 DB로 쓰는 경우)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    public enum LagCheck {
+        MYSQL,
+        NONE
+    }
+
+    private final DataSource readDataSource;
+    private final LagCheck lagCheck;
+    private final Duration maxLag;
+    private final ScheduledExecutorService scheduler;
+
+    // 마지막으로 확인한 지연 (초, 확인 실패 시 NaN)
+    private volatile double lagSeconds;
+    private volatile boolean usable = true;
+
+    public ReplicaLagMonitor(DataSource readDataSource, LagCheck lagCheck, Duration maxLag, Duration checkInterval,
+                             MeterRegistry meterRegistry) {
+        this.readDataSource = readDataSource;
+        this.lagCheck = lagCheck;
+        this.maxLag = maxLag;
+
+        Gauge.builder("accounting.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read data source")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("accounting.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("Whether read-only transactions are routed to the read data source")
+                .register(meterRegistry);
+
+        if (lagCheck == LagCheck.NONE) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("replica-lag-monitor").factory());
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReadPoolUsable() {
+        return usable;
+    }
+
+    void check() {
+        try {
+            double lag = queryLagSeconds();
+            lagSeconds = lag;
+            update(!Double.isNaN(lag) && lag <= maxLag.toSeconds(), "lag " + lag + "s");
+        } catch (Exception e) {
+            lagSeconds = Double.NaN;
+            update(false, e.getMessage());
+        }
+    }
+
+    private double queryLagSeconds() throws SQLException {
+        try (Connection connection = readDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+            // 복제가 중단되면 NULL
+            long seconds = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? Double.NaN : seconds;
+        }
+    }
+
+    private void update(boolean nowUsable, String reason) {
+        if (usable != nowUsable) {
+            if (nowUsable) {
+                log.info("Read data source back in rotation ({})", reason);
+            } else {
+                log.warn("Read data source taken out of rotation, falling back to primary ({})", reason);
+            }
+        }
+        usable = nowUsable;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
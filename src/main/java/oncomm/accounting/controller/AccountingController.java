@@ -2,22 +2,45 @@ package oncomm.accounting.controller;
 
 import oncomm.accounting.dto.*;
 import oncomm.accounting.service.AccountingService;
+import oncomm.accounting.service.AnalyticsService;
+import oncomm.accounting.service.ArchiveService;
+import oncomm.accounting.service.CompanyCatalogSnapshot;
+import oncomm.accounting.service.IngestionException;
+import oncomm.accounting.service.IngestionInputException;
+import oncomm.accounting.service.IngestionJobService;
+import oncomm.accounting.service.ReclassificationService;
+import oncomm.accounting.service.RecordExportService;
+import oncomm.accounting.service.RuleRegistry;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/accounting")
@@ -26,30 +49,67 @@ import java.util.Map;
 @Validated
 public class AccountingController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final AccountingService accountingService;
+    private final IngestionJobService ingestionJobService;
+    private final RecordExportService recordExportService;
+    private final ReclassificationService reclassificationService;
+    private final ArchiveService archiveService;
+    private final AnalyticsService analyticsService;
+    private final RuleRegistry ruleRegistry;
+
+    @Value("${accounting.upload.max-file-size:1GB}")
+    private DataSize maxTransactionsFileSize;
+
+    @Value("${accounting.upload.max-rules-file-size:10MB}")
+    private DataSize maxRulesFileSize;
 
     /**
      * 자동 회계 처리 API
      * POST /api/v1/accounting/process
+     * POST /api/v1/accounting/process?resumeRunId=... (실패한 처리를 마지막 커밋 지점부터 재개)
+     * POST /api/v1/accounting/process?companyId=... (해당 회사 규칙만으로 분류)
+     * Idempotency-Key 헤더 또는 같은 파일/규칙으로 재요청하면 저장된 처리 결과를 반환
      */
     @PostMapping("/process")
     public ResponseEntity<ProcessingResponseDto> processAccounting(
             @RequestParam("transactionsFile") MultipartFile transactionsFile,
-            @RequestParam("rulesFile") MultipartFile rulesFile) {
+            @RequestParam("rulesFile") MultipartFile rulesFile,
+            @RequestParam(required = false) String companyId,
+            @RequestParam(required = false) String resumeRunId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         try {
             // 파일 유효성 검사
             validateFiles(transactionsFile, rulesFile);
+            validateIdempotencyKey(idempotencyKey);
 
-            ProcessingResponseDto response = accountingService.processAccounting(transactionsFile, rulesFile);
+            ProcessingResponseDto response = accountingService.processAccounting(transactionsFile, rulesFile,
+                    companyId, resumeRunId, idempotencyKey);
 
             log.info("Accounting processing completed: {}", response.getMessage());
             return ResponseEntity.ok(response);
 
+        } catch (IngestionInputException e) {
+            // 입력 오류는 재개해도 같은 지점에서 실패하므로 재시도 안내 없이 처리 이력만 반환
+            log.error("Invalid transactions file for run {}: {}", e.getRunId(), e.getMessage());
+            ProcessingResponseDto response = new ProcessingResponseDto(e.getProcessedRows(), e.getClassifiedRows());
+            response.setRunId(e.getRunId());
+            response.setMessage(String.format("%s (%d rows committed before the error)",
+                    e.getMessage(), e.getProcessedRows()));
+            return ResponseEntity.badRequest().body(response);
         } catch (IllegalArgumentException e) {
             log.error("Invalid request: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(createErrorResponse(e.getMessage()));
+        } catch (IngestionException e) {
+            log.error("Accounting processing failed for run {}", e.getRunId(), e);
+            ProcessingResponseDto response = new ProcessingResponseDto(e.getProcessedRows(), e.getClassifiedRows());
+            response.setRunId(e.getRunId());
+            response.setMessage(String.format("Processing failed after %d committed rows. Retry with resumeRunId=%s",
+                    e.getProcessedRows(), e.getRunId()));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         } catch (Exception e) {
             log.error("Error processing accounting data", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -57,11 +117,75 @@ public class AccountingController {
         }
     }
 
+    /**
+     * 비동기 자동 회계 처리 API
+     * POST /api/v1/accounting/process?async=true
+     * 업로드 파일을 임시 저장하고 즉시 작업 ID를 반환 (202), 진행 상황은 /jobs/{jobId}로 조회
+     * 실패 시 동기 처리와 같은 오류 응답 본문(message) 반환
+     */
+    @PostMapping(value = "/process", params = "async=true")
+    public ResponseEntity<?> submitAccountingJob(
+            @RequestParam("transactionsFile") MultipartFile transactionsFile,
+            @RequestParam("rulesFile") MultipartFile rulesFile,
+            @RequestParam(required = false) String companyId,
+            @RequestParam(required = false) String resumeRunId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+
+        try {
+            validateFiles(transactionsFile, rulesFile);
+            validateIdempotencyKey(idempotencyKey);
+
+            IngestionJobDto job = ingestionJobService.submit(transactionsFile, rulesFile, companyId,
+                    resumeRunId, idempotencyKey);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/accounting/jobs/" + job.getJobId()))
+                    .body(job);
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            log.warn("Ingestion job rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(createErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error submitting accounting job", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(createErrorResponse("Internal server error occurred"));
+        }
+    }
+
+    /**
+     * 비동기 처리 작업 상태 조회 API
+     * GET /api/v1/accounting/jobs/{jobId}
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "jobs"}, histogram = true)
+    public ResponseEntity<IngestionJobDto> getAccountingJob(@PathVariable String jobId) {
+        return ingestionJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 비동기 처리 작업 취소 API
+     * DELETE /api/v1/accounting/jobs/{jobId}
+     */
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<IngestionJobDto> cancelAccountingJob(@PathVariable String jobId) {
+        return ingestionJobService.cancel(jobId)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * 사업체별 분류 결과 조회 API
      * GET /api/v1/accounting/records?companyId=...&page=0&size=20&sort=transactionDate,desc
+     * 거래일시 정렬만 지원하며, 최대 깊이를 넘는 페이지는 /records/scroll 사용 (400)
      */
     @GetMapping("/records")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "records"}, histogram = true)
     public ResponseEntity<Page<AccountingRecordDto>> getAccountingRecords(
             @RequestParam(required = false) String companyId,
             @RequestParam(defaultValue = "0") @Min(0) int page,
@@ -81,7 +205,31 @@ public class AccountingController {
             return ResponseEntity.ok(records);
 
         } catch (IllegalArgumentException e) {
-            log.error("Invalid company ID: {}", e.getMessage());
+            log.error("Invalid records request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error retrieving accounting records", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 사업체별 분류 결과 커서 기반 조회 API
+     * GET /api/v1/accounting/records/scroll?companyId=...&size=20&cursor=...&includeTotal=false
+     * 거래일시 내림차순, 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     */
+    @GetMapping("/records/scroll")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "records_scroll"}, histogram = true)
+    public ResponseEntity<RecordSliceDto> scrollAccountingRecords(
+            @RequestParam String companyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        try {
+            return ResponseEntity.ok(accountingService.getAccountingRecordSlice(companyId, cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Error retrieving accounting records", e);
@@ -89,11 +237,87 @@ public class AccountingController {
         }
     }
 
+    /**
+     * 적요 검색 API
+     * GET /api/v1/accounting/records/search?q=네이버페이&companyId=...&from=2024-01-01&to=2024-12-31&classified=true&size=20&cursor=...
+     * 거래일시 내림차순, 다음 페이지는 응답의 nextCursor로 조회
+     */
+    @GetMapping("/records/search")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "records_search"}, histogram = true)
+    public ResponseEntity<RecordSliceDto> searchAccountingRecords(
+            @RequestParam String q,
+            @RequestParam(required = false) String companyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Boolean classified,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size) {
+
+        try {
+            return ResponseEntity.ok(accountingService.searchRecords(q, companyId, from, to, classified, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error searching accounting records", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 분류 결과 스트리밍 내보내기 API
+     * GET /api/v1/accounting/records/export?companyId=...&from=2024-01-01&to=2024-12-31&format=csv|ndjson&gzip=false
+     * 거래일시 오름차순, 전체 기간을 한 번의 요청으로 스트리밍
+     * 응답 본문은 핸들러 반환 후에 쓰이므로 소요 시간은 RecordExportService.export에서 측정
+     */
+    @GetMapping("/records/export")
+    public ResponseEntity<StreamingResponseBody> exportAccountingRecords(
+            @RequestParam String companyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        try {
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException("'from' must not be after 'to'");
+            }
+            RecordExportService.Format exportFormat = RecordExportService.Format.from(format);
+            Long companyPk = recordExportService.resolveCompanyPk(companyId);
+
+            StreamingResponseBody body = outputStream -> {
+                if (gzip) {
+                    try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 64 * 1024)) {
+                        recordExportService.export(companyPk, from, to, exportFormat, gzipStream);
+                    }
+                } else {
+                    recordExportService.export(companyPk, from, to, exportFormat, outputStream);
+                }
+            };
+
+            String fileName = String.format("records-%s-%s-%s.%s%s", companyId, from, to,
+                    exportFormat.getExtension(), gzip ? ".gz" : "");
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(fileName, StandardCharsets.UTF_8).build().toString())
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error exporting accounting records", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 회사별 통계 조회 API
      * GET /api/v1/accounting/statistics/{companyId}
      */
     @GetMapping("/statistics/{companyId}")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "statistics"}, histogram = true)
     public ResponseEntity<Map<String, Object>> getCompanyStatistics(@PathVariable String companyId) {
         try {
             Map<String, Object> statistics = accountingService.getCompanyStatistics(companyId);
@@ -104,15 +328,178 @@ public class AccountingController {
         }
     }
 
+    /**
+     * 회사별 월별/계정과목별 입출금 합계 조회 API (사전 집계된 롤업만 조회)
+     * GET /api/v1/accounting/statistics/{companyId}/monthly?from=2025-01&to=2025-06
+     */
+    @GetMapping("/statistics/{companyId}/monthly")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "statistics_monthly"}, histogram = true)
+    public ResponseEntity<List<MonthlyRollupDto>> getMonthlyStatistics(
+            @PathVariable String companyId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+
+        try {
+            return ResponseEntity.ok(accountingService.getMonthlyRollups(companyId, from, to));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error retrieving monthly statistics for: {}", companyId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 전체 회사 통계 일괄 조회 API
+     * GET /api/v1/accounting/statistics
+     */
+    @GetMapping("/statistics")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "statistics_all"}, histogram = true)
+    public ResponseEntity<List<CompanyStatisticsDto>> getAllCompanyStatistics() {
+        try {
+            return ResponseEntity.ok(accountingService.getAllCompanyStatistics());
+        } catch (Exception e) {
+            log.error("Error retrieving company statistics", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 월별 롤업 재계산 API (복구용)
+     * POST /api/v1/accounting/statistics/monthly/rebuild
+     */
+    @PostMapping("/statistics/monthly/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildMonthlyStatistics() {
+        try {
+            int rows = accountingService.rebuildMonthlyRollups();
+            return ResponseEntity.ok(Map.of("rollupRows", rows));
+        } catch (Exception e) {
+            log.error("Error rebuilding monthly rollups", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 회사별 거래 집계 API (인메모리 컬럼 스냅샷, MySQL 조회 없음)
+     * GET /api/v1/accounting/analytics/{companyId}?groupBy=category&from=2025-07-01&to=2025-09-30
+     * GET /api/v1/accounting/analytics/{companyId}?groupBy=branch&orderBy=withdrawal&limit=10
+     * groupBy: none / category / branch / month, orderBy: key / count / deposit / withdrawal
+     */
+    @GetMapping("/analytics/{companyId}")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "analytics"}, histogram = true)
+    public ResponseEntity<AnalyticsResultDto> getAnalytics(
+            @PathVariable String companyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String branch,
+            @RequestParam(defaultValue = "none") String groupBy,
+            @RequestParam(defaultValue = "key") String orderBy,
+            @RequestParam(required = false) @Min(1) @Max(10000) Integer limit) {
+
+        try {
+            return ResponseEntity.ok(analyticsService.aggregate(companyId, from, to, categoryId, branch, groupBy, orderBy, limit));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error aggregating analytics for: {}", companyId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 회사별 통계 카운터 재계산 API (복구용)
+     * POST /api/v1/accounting/statistics/rebuild
+     */
+    @PostMapping("/statistics/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildCompanyStatistics() {
+        try {
+            int companies = accountingService.rebuildCompanyStatistics();
+            return ResponseEntity.ok(Map.of("rebuiltCompanies", companies));
+        } catch (Exception e) {
+            log.error("Error rebuilding company statistics", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 마감된 달 아카이브 API
+     * POST /api/v1/accounting/archive
+     * 보존 기간이 지난 달의 분류 완료 거래를 회사/월별 압축 세그먼트 파일로 옮김 (이미 실행 중이면 409)
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<Map<String, Object>> archiveClosedMonths() {
+        try {
+            return ResponseEntity.ok(archiveService.archiveClosedMonths());
+        } catch (IllegalStateException e) {
+            log.warn("Archive rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("Error archiving closed months", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 미분류 거래 내역 재분류 API (저장된 전체 규칙 기준)
+     * POST /api/v1/accounting/reclassify
+     * 즉시 작업 ID를 반환 (202), 진행 상황은 /reclassifications/{jobId}로 조회
+     */
+    @PostMapping("/reclassify")
+    public ResponseEntity<ReclassificationJobDto> reclassify() {
+        try {
+            ReclassificationJobDto job = reclassificationService.submitFull();
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/accounting/reclassifications/" + job.getJobId()))
+                    .body(job);
+        } catch (Exception e) {
+            log.error("Error submitting reclassification job", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 분류 규칙 레지스트리 다시 적재 API (DB에서 직접 규칙을 바꾼 경우)
+     * POST /api/v1/accounting/rules/reload
+     * 내용이 바뀐 회사의 매처만 다시 컴파일
+     */
+    @PostMapping("/rules/reload")
+    public ResponseEntity<Map<String, Object>> reloadRules() {
+        try {
+            return ResponseEntity.ok(ruleRegistry.reload());
+        } catch (Exception e) {
+            log.error("Error reloading rule registry", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 재분류 작업 상태 조회 API
+     * GET /api/v1/accounting/reclassifications/{jobId}
+     */
+    @GetMapping("/reclassifications/{jobId}")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "reclassifications"}, histogram = true)
+    public ResponseEntity<ReclassificationJobDto> getReclassificationJob(@PathVariable String jobId) {
+        return reclassificationService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * 전체 회사 목록 조회 API
      * GET /api/v1/accounting/companies
+     * 규칙 버전 기반 ETag 제공, If-None-Match가 일치하면 304 응답
      */
     @GetMapping("/companies")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "companies"}, histogram = true)
     public ResponseEntity<List<CompanyDto>> getAllCompanies() {
         try {
-            List<CompanyDto> companies = accountingService.getAllCompanies();
-            return ResponseEntity.ok(companies);
+            CompanyCatalogSnapshot catalog = accountingService.getCompanyCatalog();
+            return ResponseEntity.ok()
+                    .eTag(catalog.getETag())
+                    .body(catalog.getCompanies());
         } catch (Exception e) {
             log.error("Error retrieving companies", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -124,6 +511,7 @@ public class AccountingController {
      * GET /api/v1/accounting/unclassified?page=0&size=20
      */
     @GetMapping("/unclassified")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "unclassified"}, histogram = true)
     public ResponseEntity<Page<AccountingRecordDto>> getUnclassifiedRecords(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) int size) {
@@ -141,6 +529,28 @@ public class AccountingController {
         }
     }
 
+    /**
+     * 미분류 거래 내역 커서 기반 조회 API
+     * GET /api/v1/accounting/unclassified/scroll?size=20&cursor=...&includeTotal=false
+     */
+    @GetMapping("/unclassified/scroll")
+    @Timed(value = "accounting.api.read", extraTags = {"api", "unclassified_scroll"}, histogram = true)
+    public ResponseEntity<RecordSliceDto> scrollUnclassifiedRecords(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        try {
+            return ResponseEntity.ok(accountingService.getAccountingRecordSlice(null, cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error retrieving unclassified records", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 파일 유효성 검사
      */
@@ -153,10 +563,11 @@ public class AccountingController {
             throw new IllegalArgumentException("Rules JSON file is required");
         }
 
-        // 파일 확장자 검사
+        // 파일 확장자 검사 (.csv / .csv.gz / .zip)
         String transactionsFileName = transactionsFile.getOriginalFilename();
-        if (transactionsFileName == null || !transactionsFileName.toLowerCase().endsWith(".csv")) {
-            throw new IllegalArgumentException("Transactions file must be a CSV file");
+        String lowerName = transactionsFileName == null ? "" : transactionsFileName.toLowerCase();
+        if (!lowerName.endsWith(".csv") && !lowerName.endsWith(".csv.gz") && !lowerName.endsWith(".zip")) {
+            throw new IllegalArgumentException("Transactions file must be a CSV file (.csv, .csv.gz or .zip)");
         }
 
         String rulesFileName = rulesFile.getOriginalFilename();
@@ -164,10 +575,21 @@ public class AccountingController {
             throw new IllegalArgumentException("Rules file must be a JSON file");
         }
 
-        // 파일 크기 검사 (10MB 제한)
-        long maxFileSize = 10 * 1024 * 1024; // 10MB
-        if (transactionsFile.getSize() > maxFileSize || rulesFile.getSize() > maxFileSize) {
-            throw new IllegalArgumentException("File size must not exceed 10MB");
+        // 파일 크기 검사 (배포 환경별 설정)
+        if (transactionsFile.getSize() > maxTransactionsFileSize.toBytes()) {
+            throw new IllegalArgumentException("Transactions file size must not exceed " + maxTransactionsFileSize);
+        }
+        if (rulesFile.getSize() > maxRulesFileSize.toBytes()) {
+            throw new IllegalArgumentException("Rules file size must not exceed " + maxRulesFileSize);
+        }
+    }
+
+    /**
+     * Idempotency-Key 헤더 검사 (ingestion_file.idempotency_key 길이 제한)
+     */
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 100)) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to 100 characters");
         }
     }
 
@@ -0,0 +1,37 @@
+package oncomm.accounting.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalyticsResultDto {
+    private String companyId;
+    private String groupBy;
+    private LocalDate from;
+    private LocalDate to;
+    private String categoryId;
+    private String branch;
+    // 필터를 통과한 행 수와 합계
+    private long matchedRows;
+    private long depositTotal;
+    private long withdrawalTotal;
+    private List<Group> groups;
+    // 스냅샷 전체 행 수 (핫 테이블 + 아카이브)
+    private long snapshotRows;
+
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Group {
+        // 계정과목 ID / 거래점 / yyyy-MM
+        private String key;
+        // 계정과목 이름 (groupBy=category)
+        private String name;
+        private long count;
+        private long depositTotal;
+        private long withdrawalTotal;
+    }
+}
@@ -11,6 +11,7 @@ public class CategoryDto {
     private String categoryId;
     private String categoryName;
     private List<String> keywords;
+    private RuleConditionsDto conditions;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package oncomm.accounting.dto;
+
+import lombok.Data;
+
+@Data
+public class CompanyStatisticsDto {
+    private String companyId;
+    private String companyName;
+    private long totalTransactions;
+    private long classifiedTransactions;
+    private long unclassifiedTransactions;
+    private double classificationRate;
+
+    public CompanyStatisticsDto(String companyId, String companyName, long totalTransactions, long classifiedTransactions) {
+        this.companyId = companyId;
+        this.companyName = companyName;
+        this.totalTransactions = totalTransactions;
+        this.classifiedTransactions = classifiedTransactions;
+        this.unclassifiedTransactions = totalTransactions - classifiedTransactions;
+        this.classificationRate = totalTransactions > 0 ? (double) classifiedTransactions / totalTransactions * 100 : 0.0;
+    }
+}
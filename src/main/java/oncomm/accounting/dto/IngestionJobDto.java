@@ -0,0 +1,22 @@
+package oncomm.accounting.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestionJobDto {
+    private String jobId;
+    private String runId;
+    private String stage;
+    private int processedRows;
+    private int classifiedRows;
+    private double rowsPerSecond;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+    private ProcessingResponseDto result;
+}
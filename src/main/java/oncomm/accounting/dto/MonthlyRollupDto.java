@@ -0,0 +1,16 @@
+package oncomm.accounting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MonthlyRollupDto {
+    // yyyy-MM
+    private String period;
+    private String categoryId;
+    private String categoryName;
+    private long transactionCount;
+    private long depositTotal;
+    private long withdrawalTotal;
+}
@@ -1,5 +1,6 @@
 package oncomm.accounting.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 @Data
@@ -9,6 +10,14 @@ public class ProcessingResponseDto {
     private int unclassifiedTransactions;
     private String message;
 
+    // 처리 이력 ID (실패 시 resumeRunId로 재개)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String runId;
+
+    // 규칙 변경으로 등록된 재분류 작업 ID
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String reclassificationJobId;
+
     public ProcessingResponseDto(int totalTransactions, int classifiedTransactions) {
         this.totalTransactions = totalTransactions;
         this.classifiedTransactions = classifiedTransactions;
@@ -0,0 +1,23 @@
+package oncomm.accounting.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReclassificationJobDto {
+    private String jobId;
+    private String ruleVersion;
+    private String status;
+    // 추가된 키워드 기준 재분류면 해당 키워드 목록, 전체 재분류면 null
+    private List<String> addedKeywords;
+    private long scannedRows;
+    private long reclassifiedRows;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
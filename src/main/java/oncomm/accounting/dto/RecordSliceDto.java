@@ -0,0 +1,20 @@
+package oncomm.accounting.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RecordSliceDto {
+    private List<AccountingRecordDto> content;
+    private int size;
+    private boolean hasNext;
+
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+
+    // includeTotal=true 인 경우에만 포함
+    private Long totalElements;
+}
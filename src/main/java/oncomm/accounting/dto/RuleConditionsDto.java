@@ -0,0 +1,40 @@
+package oncomm.accounting.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 계정과목 분류 조건 (모두 선택, 지정한 조건을 모두 만족해야 함)
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RuleConditionsDto {
+    // deposit / withdrawal
+    private String direction;
+
+    // 거래 방향의 금액 (입금액 또는 출금액) 구간, 양 끝 포함
+    @JsonProperty("min_amount")
+    private Long minAmount;
+
+    @JsonProperty("max_amount")
+    private Long maxAmount;
+
+    private List<String> branches;
+
+    // 거래 시각 구간 (시작 포함, 끝 제외, 시작이 끝보다 늦으면 자정을 넘는 구간)
+    @JsonProperty("time_from")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime timeFrom;
+
+    @JsonProperty("time_to")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime timeTo;
+
+    // MON ~ SUN
+    private List<String> weekdays;
+}
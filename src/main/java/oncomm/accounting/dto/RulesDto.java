@@ -29,5 +29,8 @@ public class RulesDto {
         private String categoryName;
 
         private List<String> keywords;
+
+        // 선택: 금액 구간, 입출금 방향, 거래점, 시간대/요일 조건
+        private RuleConditionsDto conditions;
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package oncomm.accounting.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아카이브된 회사별 월 단위 거래 내역 파일
+ * - bank_transaction에서 옮겨진 분류 완료 행이 file_path의 컬럼형 파일에 (transaction_date, id) 순으로 저장됨
+ */
+@Entity
+@Table(name = "archive_segment")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchiveSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyPk;
+
+    // yyyy-MM
+    @Column(name = "period", nullable = false, length = 7)
+    private String period;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    @Column(name = "min_transaction_date", nullable = false)
+    private LocalDateTime minTransactionDate;
+
+    @Column(name = "max_transaction_date", nullable = false)
+    private LocalDateTime maxTransactionDate;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ArchiveSegment(Long companyPk, String period) {
+        this.companyPk = companyPk;
+        this.period = period;
+    }
+}
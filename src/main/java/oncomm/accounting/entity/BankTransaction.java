@@ -46,6 +46,10 @@ public class BankTransaction {
     @JoinColumn(name = "category_id")
     private Category category;
 
+    // 중복 판별용 내용 지문 (거래일시 + 적요 + 거래후잔액)
+    @Column(name = "fingerprint", nullable = false, unique = true, length = 64)
+    private String fingerprint;
+
     @Column(name = "is_classified")
     private Boolean isClassified = false;
 
@@ -4,14 +4,19 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "category")
 @Getter
 @Setter
@@ -32,6 +37,31 @@ public class Category {
     @JoinColumn(name = "company_id", nullable = false)
     private Company company;
 
+    // 분류 조건 (모두 선택, RuleCondition으로 정규화된 값)
+    @Column(name = "direction", length = 10)
+    private String direction;
+
+    @Column(name = "min_amount")
+    private Long minAmount;
+
+    @Column(name = "max_amount")
+    private Long maxAmount;
+
+    // 쉼표 구분
+    @Column(name = "branches", length = 500)
+    private String branches;
+
+    @Column(name = "time_from")
+    private LocalTime timeFrom;
+
+    @Column(name = "time_to")
+    private LocalTime timeTo;
+
+    // MON,TUE,...
+    @Column(name = "weekdays", length = 30)
+    private String weekdays;
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Keyword> keywords = new ArrayList<>();
 
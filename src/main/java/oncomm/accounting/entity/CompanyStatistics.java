@@ -0,0 +1,35 @@
+package oncomm.accounting.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회사별 거래 건수 카운터 (청크 저장/재분류 트랜잭션에서 증분 갱신)
+ */
+@Entity
+@Table(name = "company_statistics")
+@Getter
+@NoArgsConstructor
+public class CompanyStatistics {
+
+    @Id
+    @Column(name = "company_id")
+    private Long companyPk;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id")
+    private Company company;
+
+    @Column(name = "total_transactions", nullable = false)
+    private long totalTransactions;
+
+    @Column(name = "classified_transactions", nullable = false)
+    private long classifiedTransactions;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
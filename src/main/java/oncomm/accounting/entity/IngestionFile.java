@@ -0,0 +1,64 @@
+package oncomm.accounting.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료된 업로드 파일 목록
+ * - 같은 파일(checksum)이 같은 규칙(rule_version)으로 다시 들어오면 저장된 결과를 그대로 반환
+ */
+@Entity
+@Table(name = "ingestion_file")
+@Getter
+@NoArgsConstructor
+public class IngestionFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 업로드 원본의 SHA-256
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "rule_version", nullable = false, length = 64)
+    private String ruleVersion;
+
+    @Column(name = "idempotency_key", unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "run_id", nullable = false, length = 36)
+    private String runId;
+
+    @Column(name = "total_transactions", nullable = false)
+    private int totalTransactions;
+
+    @Column(name = "classified_transactions", nullable = false)
+    private int classifiedTransactions;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public IngestionFile(String checksum, String ruleVersion, String idempotencyKey, String fileName, Long fileSize,
+                         String runId, int totalTransactions, int classifiedTransactions) {
+        this.checksum = checksum;
+        this.ruleVersion = ruleVersion;
+        this.idempotencyKey = idempotencyKey;
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+        this.runId = runId;
+        this.totalTransactions = totalTransactions;
+        this.classifiedTransactions = classifiedTransactions;
+    }
+}
@@ -0,0 +1,69 @@
+package oncomm.accounting.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ingestion_run")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IngestionRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", unique = true, nullable = false, length = 36)
+    private String runId;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+
+    // 커밋된 청크까지 소비한 CSV 행 수 (중복으로 건너뛴 행 포함)
+    @Column(name = "processed_rows", nullable = false)
+    private int processedRows;
+
+    @Column(name = "classified_rows", nullable = false)
+    private int classifiedRows;
+
+    @Column(name = "committed_chunks", nullable = false)
+    private int committedChunks;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public IngestionRun(String runId, String fileName, Long fileSize) {
+        this.runId = runId;
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+    }
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+}
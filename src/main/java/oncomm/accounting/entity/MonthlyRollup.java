@@ -0,0 +1,51 @@
+package oncomm.accounting.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 회사/월/계정과목별 입출금 합계 (청크 저장/재분류 트랜잭션에서 증분 갱신)
+ */
+@Entity
+@Table(name = "monthly_rollup")
+@Getter
+@NoArgsConstructor
+public class MonthlyRollup {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(name = "deposit_total", nullable = false)
+    private long depositTotal;
+
+    @Column(name = "withdrawal_total", nullable = false)
+    private long withdrawalTotal;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "company_id")
+        private Long companyPk;
+
+        // yyyy-MM
+        @Column(name = "period", length = 7)
+        private String period;
+
+        @Column(name = "category_id")
+        private Long categoryPk;
+    }
+}
@@ -0,0 +1,31 @@
+package oncomm.accounting.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "rule_version")
+@Getter
+@NoArgsConstructor
+public class RuleVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화된 규칙 내용의 SHA-256 해시
+    @Column(name = "version_hash", nullable = false, length = 64)
+    private String versionHash;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public RuleVersion(String versionHash) {
+        this.versionHash = versionHash;
+    }
+}
@@ -0,0 +1,97 @@
+package oncomm.accounting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 거래 내역 아카이브용 JDBC 리포지토리
+ * - 월 단위로 행을 읽고, 옮긴 행의 지문을 archived_fingerprint에 남긴 뒤 bank_transaction에서 삭제
+ * - Hibernate 네이티브 쿼리는 2차 캐시 전체를 무효화하므로 JdbcTemplate으로 직접 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveBatchRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String CLOSED_MONTHS_SQL =
+            "SELECT company_id, YEAR(transaction_date), MONTH(transaction_date) " +
+            "FROM bank_transaction " +
+            "WHERE company_id IS NOT NULL AND is_classified = TRUE AND transaction_date < ? " +
+            "GROUP BY company_id, YEAR(transaction_date), MONTH(transaction_date) " +
+            "ORDER BY company_id, YEAR(transaction_date), MONTH(transaction_date)";
+
+    private static final String MONTH_ROWS_SQL =
+            "SELECT id, transaction_date, description, deposit_amount, withdrawal_amount, balance_after, " +
+            "branch, category_id, fingerprint " +
+            "FROM bank_transaction " +
+            "WHERE company_id = ? AND is_classified = TRUE AND transaction_date >= ? AND transaction_date < ? " +
+            "ORDER BY transaction_date, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기준 시각 이전에 분류 완료 행이 있는 (회사 PK, 연, 월) 목록
+     */
+    public List<long[]> findClosedMonths(LocalDateTime before) {
+        return jdbcTemplate.query(CLOSED_MONTHS_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getInt(2), rs.getInt(3)},
+                Timestamp.valueOf(before));
+    }
+
+    /**
+     * 회사의 한 달치 분류 완료 행을 (transaction_date, id) 순으로 읽음
+     */
+    public void queryMonth(Long companyPk, LocalDateTime start, LocalDateTime end, RowCallbackHandler handler) {
+        jdbcTemplate.query(MONTH_ROWS_SQL, handler, companyPk, Timestamp.valueOf(start), Timestamp.valueOf(end));
+    }
+
+    /**
+     * 아카이브된 지문 기록 (재아카이브 시 이미 있는 지문은 세그먼트만 갱신)
+     */
+    public void insertFingerprints(Long archiveSegmentId, List<String> fingerprints) {
+        List<Object[]> rows = new ArrayList<>(fingerprints.size());
+        for (String fingerprint : fingerprints) {
+            rows.add(new Object[]{fingerprint, archiveSegmentId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO archived_fingerprint (fingerprint, archive_segment_id) VALUES (?, ?) " +
+                "ON DUPLICATE KEY UPDATE archive_segment_id = VALUES(archive_segment_id)", rows);
+    }
+
+    /**
+     * 아카이브된 지문 중 주어진 지문 조회 (수집 시 중복 판별)
+     */
+    public List<String> findArchivedFingerprints(Collection<String> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(fingerprints.size(), "?"));
+        return jdbcTemplate.queryForList(
+                "SELECT fingerprint FROM archived_fingerprint WHERE fingerprint IN (" + placeholders + ")",
+                String.class, fingerprints.toArray());
+    }
+
+    /**
+     * 아카이브로 옮긴 행 삭제 (범위 삭제 대신 ID로 지워 그 사이 들어온 행은 남김)
+     * @return 삭제된 행 수
+     */
+    public int deleteTransactions(List<Long> ids) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+            deleted += jdbcTemplate.update("DELETE FROM bank_transaction WHERE id IN (" + placeholders + ")",
+                    batch.toArray());
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,16 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.entity.ArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchiveSegmentRepository extends JpaRepository<ArchiveSegment, Long> {
+
+    Optional<ArchiveSegment> findByCompanyPkAndPeriod(Long companyPk, String period);
+
+    List<ArchiveSegment> findAllByOrderByCompanyPkAscPeriodAsc();
+}
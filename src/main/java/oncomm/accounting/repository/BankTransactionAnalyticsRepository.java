@@ -0,0 +1,49 @@
+package oncomm.accounting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+
+/**
+ * 분석용 컬럼 스냅샷 적재 JDBC 리포지토리
+ * - 회사의 분류 완료 행에서 집계에 필요한 컬럼만 읽는다 (적요/지문 제외)
+ * - 커서 fetch로 한 번에 fetch size만큼만 메모리에 올린다
+ * - 적재 시작 시점의 최대 ID(high-water mark) 이하만 읽어, 적재 중 커밋된 행은 덧붙이기 경로에서 반영되게 한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class BankTransactionAnalyticsRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String COMPANY_ROWS_SQL =
+            "SELECT id, transaction_date, deposit_amount, withdrawal_amount, branch, category_id " +
+            "FROM bank_transaction " +
+            "WHERE company_id = ? AND is_classified = TRUE AND id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 커밋된 행의 최대 ID (없으면 0)
+     */
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM bank_transaction", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * 회사의 분류 완료 행 중 ID가 maxId 이하인 행 순회
+     */
+    public void streamCompanyRows(Long companyPk, long maxId, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(COMPANY_ROWS_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, companyPk);
+            statement.setLong(2, maxId);
+            return statement;
+        }, handler);
+    }
+}
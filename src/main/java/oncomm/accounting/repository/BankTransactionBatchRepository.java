@@ -0,0 +1,86 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.entity.BankTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 내역 대량 저장용 JDBC 배치 리포지토리
+ * - IDENTITY 전략에서는 Hibernate 배치가 비활성화되므로 JdbcTemplate 배치로 직접 INSERT 한다
+ * - MySQL에서는 rewriteBatchedStatements=true 설정으로 다중 행 INSERT로 재작성된다
+ * - 현재 트랜잭션의 커넥션을 공유하므로 청크 트랜잭션과 함께 커밋/롤백된다
+ * - 생성된 ID를 엔티티에 반영한다 (JPA 저장과 같이 저장 후 ID 사용 가능)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BankTransactionBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bank_transaction (transaction_date, description, deposit_amount, withdrawal_amount, " +
+            "balance_after, branch, company_id, category_id, is_classified, fingerprint) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 거래 내역 일괄 저장 (한 번의 배치로 전송, 생성된 ID를 엔티티에 설정)
+     */
+    public int batchInsert(List<BankTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+
+        BatchPreparedStatementSetter setter = new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BankTransaction transaction = transactions.get(i);
+                ps.setObject(1, transaction.getTransactionDate());
+                ps.setString(2, transaction.getDescription());
+                ps.setLong(3, transaction.getDepositAmount());
+                ps.setLong(4, transaction.getWithdrawalAmount());
+                ps.setLong(5, transaction.getBalanceAfter());
+                ps.setString(6, transaction.getBranch());
+                setNullableId(ps, 7, transaction.getCompany() != null ? transaction.getCompany().getId() : null);
+                setNullableId(ps, 8, transaction.getCategory() != null ? transaction.getCategory().getId() : null);
+                ps.setBoolean(9, Boolean.TRUE.equals(transaction.getIsClassified()));
+                ps.setString(10, transaction.getFingerprint());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return transactions.size();
+            }
+        };
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        int[] results = jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS), setter, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != transactions.size()) {
+            throw new IllegalStateException("Expected " + transactions.size() + " generated keys but got " + keys.size());
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            transactions.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+        return results.length;
+    }
+
+    private static void setNullableId(PreparedStatement ps, int index, Long id) throws SQLException {
+        if (id == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, id);
+        }
+    }
+}
@@ -2,15 +2,24 @@ package oncomm.accounting.repository;
 
 import oncomm.accounting.dto.AccountingRecordDto;
 import oncomm.accounting.entity.BankTransaction;
+import oncomm.accounting.entity.Category;
+import oncomm.accounting.entity.Company;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BankTransactionRepository extends JpaRepository<BankTransaction, Long> {
@@ -25,8 +34,8 @@ public interface BankTransactionRepository extends JpaRepository<BankTransaction
             "FROM BankTransaction bt " +
             "LEFT JOIN bt.company c " +
             "LEFT JOIN bt.category cat " +
-            "WHERE c.companyId = :companyId " +
-            "ORDER BY bt.transactionDate DESC")
+            "WHERE c.companyId = :companyId")
+    // 정렬은 Pageable로 지정 ((transaction_date, id) 오름차순/내림차순)
     Page<AccountingRecordDto> findAccountingRecordsByCompanyId(@Param("companyId") String companyId, Pageable pageable);
 
     @Query("SELECT new oncomm.accounting.dto.AccountingRecordDto(" +
@@ -39,6 +48,86 @@ public interface BankTransactionRepository extends JpaRepository<BankTransaction
             "ORDER BY bt.transactionDate DESC")
     Page<AccountingRecordDto> findUnclassifiedRecords(Pageable pageable);
 
+    // 키셋 페이지네이션: (transaction_date, id) 내림차순, 복합 인덱스 범위 스캔으로 OFFSET/COUNT 없이 조회
+    @Query("SELECT new oncomm.accounting.dto.AccountingRecordDto(" +
+            "bt.id, bt.transactionDate, bt.description, bt.depositAmount, bt.withdrawalAmount, " +
+            "bt.balanceAfter, bt.branch, c.companyId, c.companyName, cat.categoryId, cat.categoryName, bt.isClassified) " +
+            "FROM BankTransaction bt " +
+            "LEFT JOIN bt.company c " +
+            "LEFT JOIN bt.category cat " +
+            "WHERE bt.company.id = :companyPk " +
+            "ORDER BY bt.transactionDate DESC, bt.id DESC")
+    List<AccountingRecordDto> findAccountingRecordsFirst(@Param("companyPk") Long companyPk, Limit limit);
+
+    @Query("SELECT new oncomm.accounting.dto.AccountingRecordDto(" +
+            "bt.id, bt.transactionDate, bt.description, bt.depositAmount, bt.withdrawalAmount, " +
+            "bt.balanceAfter, bt.branch, c.companyId, c.companyName, cat.categoryId, cat.categoryName, bt.isClassified) " +
+            "FROM BankTransaction bt " +
+            "LEFT JOIN bt.company c " +
+            "LEFT JOIN bt.category cat " +
+            "WHERE bt.company.id = :companyPk " +
+            "AND (bt.transactionDate < :date OR (bt.transactionDate = :date AND bt.id < :id)) " +
+            "ORDER BY bt.transactionDate DESC, bt.id DESC")
+    List<AccountingRecordDto> findAccountingRecordsAfter(@Param("companyPk") Long companyPk,
+                                                         @Param("date") LocalDateTime date,
+                                                         @Param("id") Long id, Limit limit);
+
+    @Query("SELECT new oncomm.accounting.dto.AccountingRecordDto(" +
+            "bt.id, bt.transactionDate, bt.description, bt.depositAmount, bt.withdrawalAmount, " +
+            "bt.balanceAfter, bt.branch, c.companyId, c.companyName, cat.categoryId, cat.categoryName, bt.isClassified) " +
+            "FROM BankTransaction bt " +
+            "LEFT JOIN bt.company c " +
+            "LEFT JOIN bt.category cat " +
+            "WHERE bt.isClassified = false " +
+            "ORDER BY bt.transactionDate DESC, bt.id DESC")
+    List<AccountingRecordDto> findUnclassifiedRecordsFirst(Limit limit);
+
+    @Query("SELECT new oncomm.accounting.dto.AccountingRecordDto(" +
+            "bt.id, bt.transactionDate, bt.description, bt.depositAmount, bt.withdrawalAmount, " +
+            "bt.balanceAfter, bt.branch, c.companyId, c.companyName, cat.categoryId, cat.categoryName, bt.isClassified) " +
+            "FROM BankTransaction bt " +
+            "LEFT JOIN bt.company c " +
+            "LEFT JOIN bt.category cat " +
+            "WHERE bt.isClassified = false " +
+            "AND (bt.transactionDate < :date OR (bt.transactionDate = :date AND bt.id < :id)) " +
+            "ORDER BY bt.transactionDate DESC, bt.id DESC")
+    List<AccountingRecordDto> findUnclassifiedRecordsAfter(@Param("date") LocalDateTime date,
+                                                           @Param("id") Long id, Limit limit);
+
+    long countByIsClassifiedFalse();
+
+    // 내보내기용 전방향 스트림 (서버 커서로 fetch size 단위 조회, 호출 측 트랜잭션 안에서 소비 후 닫아야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new oncomm.accounting.dto.AccountingRecordDto(" +
+            "bt.id, bt.transactionDate, bt.description, bt.depositAmount, bt.withdrawalAmount, " +
+            "bt.balanceAfter, bt.branch, c.companyId, c.companyName, cat.categoryId, cat.categoryName, bt.isClassified) " +
+            "FROM BankTransaction bt " +
+            "LEFT JOIN bt.company c " +
+            "LEFT JOIN bt.category cat " +
+            "WHERE bt.company.id = :companyPk " +
+            "AND bt.transactionDate >= :from AND bt.transactionDate < :to " +
+            "ORDER BY bt.transactionDate ASC, bt.id ASC")
+    Stream<AccountingRecordDto> streamAccountingRecords(@Param("companyPk") Long companyPk,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+
+    // 재분류 대상 스캔: {id, 적요, 입금액, 출금액, 거래점, 거래일시} (is_classified 인덱스의 (is_classified, id) 순서로 키셋 조회)
+    @Query("SELECT bt.id, bt.description, bt.depositAmount, bt.withdrawalAmount, bt.branch, bt.transactionDate " +
+            "FROM BankTransaction bt " +
+            "WHERE bt.isClassified = false AND bt.id > :afterId ORDER BY bt.id")
+    List<Object[]> findUnclassifiedRows(@Param("afterId") Long afterId, Limit limit);
+
+    // 재분류 반영 (그 사이 분류된 행은 건드리지 않음)
+    @Modifying
+    @Query("UPDATE BankTransaction bt SET bt.company = :company, bt.category = :category, bt.isClassified = true " +
+            "WHERE bt.id IN :ids AND bt.isClassified = false")
+    int classifyAll(@Param("ids") Collection<Long> ids,
+                    @Param("company") Company company,
+                    @Param("category") Category category);
+
     @Query("SELECT COUNT(bt) FROM BankTransaction bt WHERE bt.company.companyId = :companyId")
     long countByCompanyId(@Param("companyId") String companyId);
 
@@ -47,14 +136,6 @@ public interface BankTransactionRepository extends JpaRepository<BankTransaction
 
     List<BankTransaction> findByTransactionDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
-    @Query("SELECT CASE WHEN COUNT(bt) > 0 THEN true ELSE false END " +
-            "FROM BankTransaction bt " +
-            "WHERE bt.description = :description " +
-            "AND bt.transactionDate = :transactionDate " +
-            "AND bt.balanceAfter = :balanceAfter")
-    boolean existsByDescriptionAndTransactionDateAndBalanceAfter(
-            @Param("description") String description,
-            @Param("transactionDate") LocalDateTime transactionDate,
-            @Param("balanceAfter") Long balanceAfter
-    );
+    @Query("SELECT bt.fingerprint FROM BankTransaction bt WHERE bt.fingerprint IN :fingerprints")
+    List<String> findExistingFingerprints(@Param("fingerprints") Collection<String> fingerprints);
 }
\ No newline at end of file
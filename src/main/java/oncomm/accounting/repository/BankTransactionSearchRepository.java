@@ -0,0 +1,105 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.dto.AccountingRecordDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 적요 부분 문자열 검색용 JDBC 리포지토리
+ * - description 컬럼의 ngram FULLTEXT 인덱스(MATCH ... AGAINST)로 후보 행을 찾고 LIKE로 정확히 재확인
+ * - 필터 조합에 따라 SQL이 달라지므로 JPQL 대신 직접 조립
+ */
+@Repository
+@RequiredArgsConstructor
+public class BankTransactionSearchRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT bt.id, bt.transaction_date, bt.description, bt.deposit_amount, bt.withdrawal_amount, " +
+            "bt.balance_after, bt.branch, c.company_id, c.company_name, cat.category_id, cat.category_name, " +
+            "bt.is_classified " +
+            "FROM bank_transaction bt " +
+            "LEFT JOIN company c ON c.id = bt.company_id " +
+            "LEFT JOIN category cat ON cat.id = bt.category_id " +
+            "WHERE MATCH(bt.description) AGAINST (? IN BOOLEAN MODE) " +
+            "AND bt.description LIKE ? ESCAPE '!'";
+
+    private static final RowMapper<AccountingRecordDto> ROW_MAPPER = (rs, rowNum) -> new AccountingRecordDto(
+            rs.getLong("id"),
+            rs.getTimestamp("transaction_date").toLocalDateTime(),
+            rs.getString("description"),
+            rs.getLong("deposit_amount"),
+            rs.getLong("withdrawal_amount"),
+            rs.getLong("balance_after"),
+            rs.getString("branch"),
+            rs.getString("company_id"),
+            rs.getString("company_name"),
+            rs.getString("category_id"),
+            rs.getString("category_name"),
+            rs.getBoolean("is_classified"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 적요 검색 (transaction_date, id 내림차순 키셋)
+     * @param query      검색어 (2자 이상)
+     * @param companyPk  회사 PK (null이면 전체)
+     * @param from       시작일, 포함 (null이면 제한 없음)
+     * @param to         종료일, 포함 (null이면 제한 없음)
+     * @param classified 분류 여부 (null이면 전체)
+     * @param afterDate  커서의 거래일시 (null이면 첫 페이지)
+     * @param afterId    커서의 ID
+     */
+    public List<AccountingRecordDto> search(String query, Long companyPk, LocalDate from, LocalDate to,
+                                            Boolean classified, LocalDateTime afterDate, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(toPhrase(query));
+        args.add("%" + escapeLike(query) + "%");
+
+        if (companyPk != null) {
+            sql.append(" AND bt.company_id = ?");
+            args.add(companyPk);
+        }
+        if (from != null) {
+            sql.append(" AND bt.transaction_date >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            sql.append(" AND bt.transaction_date < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        if (classified != null) {
+            sql.append(" AND bt.is_classified = ?");
+            args.add(classified);
+        }
+        if (afterDate != null) {
+            sql.append(" AND (bt.transaction_date < ? OR (bt.transaction_date = ? AND bt.id < ?))");
+            args.add(Timestamp.valueOf(afterDate));
+            args.add(Timestamp.valueOf(afterDate));
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY bt.transaction_date DESC, bt.id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 불리언 모드 구문 검색어 ("..." 안에서는 연산자가 해석되지 않음, ngram 파서가 연속된 n-gram으로 분해)
+     */
+    private static String toPhrase(String query) {
+        return "\"" + query.replace("\"", " ") + "\"";
+    }
+
+    private static String escapeLike(String query) {
+        return query.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,5 +20,12 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Query("SELECT c FROM Category c LEFT JOIN FETCH c.keywords WHERE c.company.companyId = :companyId")
     List<Category> findByCompanyIdWithKeywords(@Param("companyId") String companyId);
 
+    @Query("SELECT c FROM Category c JOIN FETCH c.company WHERE c.categoryId IN :categoryIds")
+    List<Category> findByCategoryIdInWithCompany(@Param("categoryIds") Collection<String> categoryIds);
+
+    // 회사는 프록시 ID만 사용하므로 페치하지 않음
+    @Query("SELECT c FROM Category c ORDER BY c.id")
+    List<Category> findAllOrderById();
+
     boolean existsByCategoryId(String categoryId);
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +15,8 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
 
     Optional<Company> findByCompanyId(String companyId);
 
+    List<Company> findByCompanyIdIn(Collection<String> companyIds);
+
     boolean existsByCompanyId(String companyId);
 
     @Query("SELECT c FROM Company c LEFT JOIN FETCH c.categories cat LEFT JOIN FETCH cat.keywords WHERE c.companyId = :companyId")
@@ -0,0 +1,70 @@
+package oncomm.accounting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 회사별 통계 카운터 갱신용 JDBC 리포지토리
+ * - Hibernate 네이티브 쿼리는 2차 캐시 전체를 무효화하므로 JdbcTemplate으로 직접 실행
+ * - 호출한 트랜잭션(청크 저장, 재분류)에 그대로 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompanyStatisticsBatchRepository {
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO company_statistics (company_id, total_transactions, classified_transactions) " +
+            "VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_transactions = total_transactions + ?, " +
+            "classified_transactions = classified_transactions + ?";
+
+    // 아카이브된 행은 모두 분류 완료 상태
+    private static final String REBUILD_SQL =
+            "INSERT INTO company_statistics (company_id, total_transactions, classified_transactions) " +
+            "SELECT company_id, SUM(total), SUM(classified) FROM (" +
+            "SELECT company_id, COUNT(*) AS total, SUM(CASE WHEN is_classified THEN 1 ELSE 0 END) AS classified " +
+            "FROM bank_transaction " +
+            "WHERE company_id IS NOT NULL " +
+            "GROUP BY company_id " +
+            "UNION ALL " +
+            "SELECT company_id, SUM(row_count), SUM(row_count) " +
+            "FROM archive_segment " +
+            "GROUP BY company_id" +
+            ") counts GROUP BY company_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 카운터 증분 반영 (행이 없으면 생성)
+     * - 동시 실행되는 작업 간 교착을 피하기 위해 회사 PK 순서로 갱신
+     * @param deltas 회사 PK → {전체 증감, 분류 완료 증감}
+     */
+    public void increment(Map<Long, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        for (Map.Entry<Long, long[]> entry : new TreeMap<>(deltas).entrySet()) {
+            long[] delta = entry.getValue();
+            rows.add(new Object[]{entry.getKey(), delta[0], delta[1], delta[0], delta[1]});
+        }
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, rows);
+    }
+
+    /**
+     * 거래 내역 원본(핫 테이블 + 아카이브 세그먼트)으로부터 카운터 전체 재계산
+     * @return 재계산된 회사 수
+     */
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM company_statistics");
+        return jdbcTemplate.update(REBUILD_SQL);
+    }
+}
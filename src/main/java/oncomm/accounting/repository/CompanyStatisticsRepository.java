@@ -0,0 +1,27 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.dto.CompanyStatisticsDto;
+import oncomm.accounting.entity.CompanyStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CompanyStatisticsRepository extends JpaRepository<CompanyStatistics, Long> {
+
+    @Query("SELECT new oncomm.accounting.dto.CompanyStatisticsDto(" +
+            "c.companyId, c.companyName, COALESCE(s.totalTransactions, 0L), COALESCE(s.classifiedTransactions, 0L)) " +
+            "FROM Company c LEFT JOIN CompanyStatistics s ON s.companyPk = c.id " +
+            "WHERE c.companyId = :companyId")
+    Optional<CompanyStatisticsDto> findStatisticsByCompanyId(@Param("companyId") String companyId);
+
+    @Query("SELECT new oncomm.accounting.dto.CompanyStatisticsDto(" +
+            "c.companyId, c.companyName, COALESCE(s.totalTransactions, 0L), COALESCE(s.classifiedTransactions, 0L)) " +
+            "FROM Company c LEFT JOIN CompanyStatistics s ON s.companyPk = c.id " +
+            "ORDER BY c.companyId")
+    List<CompanyStatisticsDto> findAllStatistics();
+}
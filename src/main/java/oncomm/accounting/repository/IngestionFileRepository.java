@@ -0,0 +1,15 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.entity.IngestionFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IngestionFileRepository extends JpaRepository<IngestionFile, Long> {
+
+    Optional<IngestionFile> findByChecksumAndRuleVersion(String checksum, String ruleVersion);
+
+    Optional<IngestionFile> findByIdempotencyKey(String idempotencyKey);
+}
@@ -0,0 +1,34 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.entity.IngestionRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface IngestionRunRepository extends JpaRepository<IngestionRun, Long> {
+
+    Optional<IngestionRun> findByRunId(String runId);
+
+    @Modifying
+    @Query("UPDATE IngestionRun r " +
+            "SET r.processedRows = r.processedRows + :processedRows, " +
+            "r.classifiedRows = r.classifiedRows + :classifiedRows, " +
+            "r.committedChunks = r.committedChunks + 1 " +
+            "WHERE r.id = :id")
+    int advanceCheckpoint(@Param("id") Long id,
+                          @Param("processedRows") int processedRows,
+                          @Param("classifiedRows") int classifiedRows);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IngestionRun r SET r.status = :status, r.errorMessage = :errorMessage WHERE r.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") IngestionRun.Status status,
+                     @Param("errorMessage") String errorMessage);
+}
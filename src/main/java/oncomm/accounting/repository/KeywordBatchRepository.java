@@ -0,0 +1,30 @@
+package oncomm.accounting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 키워드 대량 저장용 JDBC 배치 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class KeywordBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO keyword (keyword, category_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키워드 일괄 저장
+     * @param rows {키워드, 계정과목 PK} 목록
+     */
+    public int batchInsert(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.batchUpdate(INSERT_SQL, rows).length;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,5 +21,12 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     @Query("SELECT k FROM Keyword k JOIN FETCH k.category cat WHERE cat.company.companyId = :companyId")
     List<Keyword> findByCompanyId(@Param("companyId") String companyId);
 
+    @Query("SELECT k FROM Keyword k JOIN FETCH k.category cat WHERE cat.categoryId IN :categoryIds")
+    List<Keyword> findByCategoryIdInWithCategory(@Param("categoryIds") Collection<String> categoryIds);
+
+    // {계정과목 PK, 키워드} 목록 (선언 순서)
+    @Query("SELECT k.category.id, k.keyword FROM Keyword k ORDER BY k.id")
+    List<Object[]> findAllCategoryKeywordPairs();
+
     Optional<Keyword> findByKeywordAndCategory_CategoryId(String keyword, String categoryId);
 }
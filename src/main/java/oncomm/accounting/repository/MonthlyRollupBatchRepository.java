@@ -0,0 +1,109 @@
+package oncomm.accounting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 월별 롤업 갱신용 JDBC 리포지토리
+ * - Hibernate 네이티브 쿼리는 2차 캐시 전체를 무효화하므로 JdbcTemplate으로 직접 실행
+ * - 호출한 트랜잭션(청크 저장, 재분류)에 그대로 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class MonthlyRollupBatchRepository {
+
+    /**
+     * 롤업 키 (기본 키 순서로 정렬)
+     */
+    public record Key(long companyPk, String period, long categoryPk) {
+        static final Comparator<Key> ORDER = Comparator.comparingLong(Key::companyPk)
+                .thenComparing(Key::period)
+                .thenComparingLong(Key::categoryPk);
+    }
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO monthly_rollup (company_id, period, category_id, transaction_count, deposit_total, withdrawal_total) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "transaction_count = transaction_count + ?, " +
+            "deposit_total = deposit_total + ?, " +
+            "withdrawal_total = withdrawal_total + ?";
+
+    private static final String REBUILD_SQL =
+            "INSERT INTO monthly_rollup (company_id, period, category_id, transaction_count, deposit_total, withdrawal_total) " +
+            "SELECT company_id, DATE_FORMAT(transaction_date, '%Y-%m'), category_id, " +
+            "COUNT(*), SUM(deposit_amount), SUM(withdrawal_amount) " +
+            "FROM bank_transaction " +
+            "WHERE is_classified = TRUE " +
+            "GROUP BY company_id, DATE_FORMAT(transaction_date, '%Y-%m'), category_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 롤업 증분 반영 (행이 없으면 생성)
+     * - 동시 실행되는 작업 간 교착을 피하기 위해 기본 키 순서로 갱신
+     * @param deltas 롤업 키 → {건수, 입금 합계, 출금 합계}
+     */
+    public void increment(Map<Key, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Key, long[]> ordered = new TreeMap<>(Key.ORDER);
+        ordered.putAll(deltas);
+        List<Object[]> rows = new ArrayList<>(ordered.size());
+        for (Map.Entry<Key, long[]> entry : ordered.entrySet()) {
+            Key key = entry.getKey();
+            long[] delta = entry.getValue();
+            rows.add(new Object[]{key.companyPk(), key.period(), key.categoryPk(),
+                    delta[0], delta[1], delta[2], delta[0], delta[1], delta[2]});
+        }
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, rows);
+    }
+
+    /**
+     * 아직 미분류인 행을 해당 계정과목 롤업에 더함 (재분류 UPDATE 직전에 같은 트랜잭션에서 호출)
+     * - INSERT ... SELECT가 원본 행에 공유 락을 걸어 UPDATE까지 다른 트랜잭션이 분류하지 못하므로 건수가 UPDATE 결과와 일치
+     */
+    public void incrementFromUnclassified(Collection<Long> ids, Long companyPk, Long categoryPk) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(companyPk);
+        args.add(categoryPk);
+        args.addAll(ids);
+        jdbcTemplate.update(
+                "INSERT INTO monthly_rollup (company_id, period, category_id, transaction_count, deposit_total, withdrawal_total) " +
+                "SELECT ?, DATE_FORMAT(transaction_date, '%Y-%m') AS month, ?, " +
+                "COUNT(*) AS added_count, SUM(deposit_amount) AS added_deposit, SUM(withdrawal_amount) AS added_withdrawal " +
+                "FROM bank_transaction " +
+                "WHERE id IN (" + placeholders + ") AND is_classified = FALSE " +
+                "GROUP BY month " +
+                "ON DUPLICATE KEY UPDATE " +
+                "transaction_count = transaction_count + VALUES(transaction_count), " +
+                "deposit_total = deposit_total + VALUES(deposit_total), " +
+                "withdrawal_total = withdrawal_total + VALUES(withdrawal_total)",
+                args.toArray());
+    }
+
+    /**
+     * 핫 테이블 기준으로 롤업 전체 재계산 (아카이브된 행은 호출한 쪽에서 increment로 더함)
+     * @return 재계산된 롤업 행 수
+     */
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM monthly_rollup");
+        return jdbcTemplate.update(REBUILD_SQL);
+    }
+}
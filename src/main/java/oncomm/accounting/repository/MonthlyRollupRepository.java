@@ -0,0 +1,24 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.dto.MonthlyRollupDto;
+import oncomm.accounting.entity.MonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, MonthlyRollup.Key> {
+
+    // (company_id, period, category_id) 기본 키 범위 조회
+    @Query("SELECT new oncomm.accounting.dto.MonthlyRollupDto(" +
+            "r.id.period, cat.categoryId, cat.categoryName, r.transactionCount, r.depositTotal, r.withdrawalTotal) " +
+            "FROM MonthlyRollup r JOIN Category cat ON cat.id = r.id.categoryPk " +
+            "WHERE r.id.companyPk = :companyPk AND r.id.period >= :fromPeriod AND r.id.period <= :toPeriod " +
+            "ORDER BY r.id.period, cat.categoryId")
+    List<MonthlyRollupDto> findByCompanyAndPeriods(@Param("companyPk") Long companyPk,
+                                                   @Param("fromPeriod") String fromPeriod,
+                                                   @Param("toPeriod") String toPeriod);
+}
@@ -0,0 +1,13 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.entity.RuleVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RuleVersionRepository extends JpaRepository<RuleVersion, Long> {
+
+    Optional<RuleVersion> findTopByOrderByIdDesc();
+}
@@ -4,24 +4,32 @@ import oncomm.accounting.dto.*;
 import oncomm.accounting.entity.*;
 import oncomm.accounting.repository.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
@@ -30,31 +38,174 @@ import java.util.stream.Collectors;
 public class AccountingService {
 
     private final CompanyRepository companyRepository;
-    private final CategoryRepository categoryRepository;
-    private final KeywordRepository keywordRepository;
     private final BankTransactionRepository bankTransactionRepository;
+    private final IngestionRunRepository ingestionRunRepository;
+    private final IngestionFileRepository ingestionFileRepository;
+    private final CompanyStatisticsRepository companyStatisticsRepository;
+    private final CompanyStatisticsBatchRepository companyStatisticsBatchRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final MonthlyRollupBatchRepository monthlyRollupBatchRepository;
+    private final BankTransactionSearchRepository bankTransactionSearchRepository;
+    private final RuleService ruleService;
+    private final RuleRegistry ruleRegistry;
+    private final CompanyCatalog companyCatalog;
+    private final ClassificationStage classificationStage;
+    private final IngestionChunkWriter ingestionChunkWriter;
+    private final ArchiveService archiveService;
+    private final ReclassificationService reclassificationService;
+    private final IngestionMetrics metrics;
     private final ObjectMapper objectMapper;
 
+    @Value("${accounting.ingestion.chunk-size:1000}")
+    private int chunkSize;
+
+    // CSV 파서 엔진: fast(전용 파서, 기본) / commons(Apache Commons CSV)
+    @Value("${accounting.ingestion.csv-engine:fast}")
+    private String csvEngine;
+
+    // 회사별 페이지 조회의 최대 깊이 (offset + size), 더 깊은 페이지는 /records/scroll 키셋 조회 사용
+    @Value("${accounting.records.max-page-depth:10000}")
+    private int maxPageDepth;
+
+    /**
+     * 자동 회계 처리 메인 로직 (요청 스레드에서 동기 처리, 업로드 파일은 임시 파일로 옮겨서 읽음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProcessingResponseDto processAccounting(MultipartFile transactionsFile, MultipartFile rulesFile,
+                                                   String companyId, String resumeRunId,
+                                                   String idempotencyKey) throws IOException {
+        try (SpooledUpload transactions = SpooledUpload.spool(transactionsFile);
+             SpooledUpload rules = SpooledUpload.spool(rulesFile)) {
+            return processAccounting(transactions, rules, companyId, resumeRunId, idempotencyKey,
+                    new IngestionProgress());
+        }
+    }
+
     /**
      * 자동 회계 처리 메인 로직
+     * - 파싱 → 분류 → 중복 제거/저장을 스트리밍으로 처리하고 청크 단위로 커밋
+     * - resumeRunId가 주어지면 해당 처리 이력의 마지막 커밋 지점부터 재개
+     * - 청크 경계마다 진행 상황을 갱신하고 취소 요청을 확인
+     * - 같은 파일이 같은 규칙으로(또는 같은 Idempotency-Key로) 이미 처리되었으면 저장된 결과를 그대로 반환
+     * - companyId가 주어지면 해당 회사의 규칙만으로 분류 (없으면 저장된 전체 회사 규칙)
      */
-    public ProcessingResponseDto processAccounting(MultipartFile transactionsFile, MultipartFile rulesFile) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProcessingResponseDto processAccounting(SpooledUpload transactionsFile, SpooledUpload rulesFile,
+                                                   String companyId, String resumeRunId, String idempotencyKey,
+                                                   IngestionProgress progress) {
+        IngestionRun run = null;
+        int processedRows = 0;
+        int classifiedCount = 0;
+        progress.start();
+        metrics.ingestionStarted();
+        Timer.Sample totalSample = metrics.startStage();
+
         try {
             // 1. 규칙 파일 파싱 및 저장
+            progress.stage(IngestionProgress.Stage.RULE_SYNC);
+            Timer.Sample ruleSyncSample = metrics.startStage();
             RulesDto rules = parseRulesFile(rulesFile);
-            saveRulesToDatabase(rules);
 
-            // 2. 거래 내역 파싱
-            List<BankTransactionDto> transactions = parseTransactionsFile(transactionsFile);
+            IngestionFile processedFile = findProcessedFile(transactionsFile,
+                    ruleService.resolveRuleVersion(rules), idempotencyKey);
+            if (processedFile != null) {
+                metrics.stopStage(ruleSyncSample, "rule_sync");
+                log.info("Upload {} already processed by run {}, returning stored result",
+                        transactionsFile.getOriginalFilename(), processedFile.getRunId());
+                progress.runStarted(processedFile.getRunId(), processedFile.getTotalTransactions(),
+                        processedFile.getClassifiedTransactions());
+                progress.finish(IngestionProgress.Stage.COMPLETED, null);
+                return toReplayResponse(processedFile);
+            }
 
-            // 3. 거래 내역 분류 및 저장
-            int classifiedCount = classifyAndSaveTransactions(transactions, rules);
+            RuleSyncResult syncResult = ruleService.saveRulesToDatabase(rules);
+            // 규칙 변경 커밋 후 레지스트리가 바뀐 회사의 매처만 다시 컴파일
+            RuleSnapshot ruleSnapshot = companyId != null
+                    ? ruleRegistry.getCompany(companyId)
+                    : ruleRegistry.getGlobal();
+            metrics.stopStage(ruleSyncSample, "rule_sync");
+
+            // 키워드나 조건이 추가/변경되었으면 기존 미분류 거래 내역을 백그라운드에서 재분류 (회사 구분 없이 전체 매처 사용)
+            ReclassificationJobDto reclassificationJob = reclassificationService.submit(syncResult);
+            String reclassificationJobId = reclassificationJob != null ? reclassificationJob.getJobId() : null;
+
+            // 2. 처리 이력 생성 또는 재개
+            run = startOrResumeRun(transactionsFile, resumeRunId);
+            processedRows = run.getProcessedRows();
+            classifiedCount = run.getClassifiedRows();
+            progress.runStarted(run.getRunId(), processedRows, classifiedCount);
+
+            // 3. 파싱 → 병렬 분류 → 청크 단위 저장
+            //    다음 청크의 파싱/분류를 현재 청크 저장과 겹쳐서 실행 (최대 한 청크 선행)
+            progress.stage(IngestionProgress.Stage.INGESTING);
+            try (TransactionReader reader = TransactionReader.open(transactionsFile.getInputStream(), csvEngine)) {
+                reader.skip(processedRows);
+
+                CompletableFuture<List<ClassifiedTransaction>> pending = null;
+                while (true) {
+                    List<BankTransactionDto> rows = readChunk(reader);
+                    CompletableFuture<List<ClassifiedTransaction>> next =
+                            rows.isEmpty() ? null : classificationStage.classifyAsync(rows, ruleSnapshot);
+
+                    if (pending != null) {
+                        List<ClassifiedTransaction> chunk = awaitClassification(pending);
+                        Long runPk = run.getId();
+                        int classified = metrics.timeStage("persist", () -> ingestionChunkWriter.writeChunk(runPk, chunk));
+                        classifiedCount += classified;
+                        processedRows += chunk.size();
+                        progress.chunkCommitted(chunk.size(), classified);
+
+                        if (next != null && progress.isCancelRequested()) {
+                            throw new CancellationException("Cancelled after " + processedRows + " rows");
+                        }
+                    }
 
-            return new ProcessingResponseDto(transactions.size(), classifiedCount);
+                    if (next == null) {
+                        break;
+                    }
+                    pending = next;
+                }
+            }
+
+            ingestionRunRepository.updateStatus(run.getId(), IngestionRun.Status.COMPLETED, null);
+            recordProcessedFile(transactionsFile, syncResult.getVersion(), idempotencyKey,
+                    run.getRunId(), processedRows, classifiedCount);
+            progress.finish(IngestionProgress.Stage.COMPLETED, null);
+
+            ProcessingResponseDto response = new ProcessingResponseDto(processedRows, classifiedCount);
+            response.setRunId(run.getRunId());
+            response.setReclassificationJobId(reclassificationJobId);
+            return response;
+
+        } catch (CancellationException e) {
+            log.info("Ingestion run {} cancelled: {}", run.getRunId(), e.getMessage());
+            ingestionRunRepository.updateStatus(run.getId(), IngestionRun.Status.CANCELLED, e.getMessage());
+            progress.finish(IngestionProgress.Stage.CANCELLED, e.getMessage());
+            throw new IngestionException("Processing cancelled: " + e.getMessage(),
+                    run.getRunId(), processedRows, classifiedCount, e);
 
         } catch (Exception e) {
             log.error("Error processing accounting data", e);
-            throw new RuntimeException("Failed to process accounting data: " + e.getMessage());
+            progress.finish(IngestionProgress.Stage.FAILED, e.getMessage());
+            if (run == null) {
+                if (e instanceof IllegalArgumentException) {
+                    throw (IllegalArgumentException) e;
+                }
+                throw new RuntimeException("Failed to process accounting data: " + e.getMessage());
+            }
+
+            // 커밋된 청크는 유지하고 실패 지점을 기록
+            ingestionRunRepository.updateStatus(run.getId(), IngestionRun.Status.FAILED, truncate(e.getMessage(), 1000));
+            // 잘못된 행/헤더 같은 입력 오류는 재개해도 같은 행에서 다시 실패하므로 재시도 대상이 아님
+            if (e instanceof IllegalArgumentException) {
+                throw new IngestionInputException("Invalid transactions file: " + e.getMessage(),
+                        run.getRunId(), processedRows, classifiedCount, e);
+            }
+            throw new IngestionException("Failed to process accounting data: " + e.getMessage(),
+                    run.getRunId(), processedRows, classifiedCount, e);
+        } finally {
+            metrics.stopStage(totalSample, "total");
+            metrics.ingestionFinished();
         }
     }
 
@@ -68,286 +219,343 @@ public class AccountingService {
         }
 
         // 회사가 존재하는지 확인
-        if (!companyRepository.existsByCompanyId(companyId)) {
-            throw new IllegalArgumentException("Company not found: " + companyId);
+        Long companyPk = companyRepository.findByCompanyId(companyId)
+                .map(Company::getId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
+
+        // 아카이브 여부와 무관하게 같은 정렬/깊이 제한 적용
+        Sort.Order dateOrder = pageable.getSort().getOrderFor("transactionDate");
+        if (pageable.getSort().isSorted() && (dateOrder == null || pageable.getSort().stream().count() > 1)) {
+            throw new IllegalArgumentException("Only sorting by transactionDate is supported");
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > maxPageDepth) {
+            throw new IllegalArgumentException("Page depth must not exceed " + maxPageDepth
+                    + " records, use /records/scroll for deeper pages");
         }
+        boolean descending = dateOrder == null || dateOrder.isDescending();
 
-        return bankTransactionRepository.findAccountingRecordsByCompanyId(companyId, pageable);
+        if (!archiveService.hasArchive(companyPk)) {
+            return bankTransactionRepository.findAccountingRecordsByCompanyId(companyId,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), recordSort(descending)));
+        }
+        return getAccountingRecordsWithArchive(companyId, companyPk, pageable, descending);
     }
 
     /**
-     * 규칙 파일 파싱
+     * 아카이브된 달이 있는 회사의 페이지 조회
+     * - 핫 테이블과 아카이브에서 각각 (offset + size)건을 같은 순서로 읽어 병합 (깊이는 maxPageDepth로 제한)
+     * - 전체 건수는 핫 테이블 건수 + 아카이브 행 수
      */
-    private RulesDto parseRulesFile(MultipartFile rulesFile) throws Exception {
-        try (Reader reader = new InputStreamReader(rulesFile.getInputStream(), StandardCharsets.UTF_8)) {
-            return objectMapper.readValue(reader, RulesDto.class);
-        }
+    private Page<AccountingRecordDto> getAccountingRecordsWithArchive(String companyId, Long companyPk, Pageable pageable,
+                                                                      boolean descending) {
+        int needed = (int) (pageable.getOffset() + pageable.getPageSize());
+        Page<AccountingRecordDto> hot = bankTransactionRepository.findAccountingRecordsByCompanyId(companyId,
+                PageRequest.of(0, needed, recordSort(descending)));
+        List<AccountingRecordDto> merged = RecordOrder.merge(hot.getContent(),
+                archiveService.findRecords(companyPk, descending, null, null, needed),
+                descending ? RecordOrder.DESCENDING : RecordOrder.ASCENDING, needed);
+
+        List<AccountingRecordDto> content = pageable.getOffset() >= merged.size()
+                ? List.of()
+                : merged.subList((int) pageable.getOffset(), merged.size());
+        return new PageImpl<>(content, pageable, hot.getTotalElements() + archiveService.getArchivedRowCount(companyPk));
+    }
+
+    private static Sort recordSort(boolean descending) {
+        return Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, "transactionDate", "id");
     }
 
     /**
-     * 거래 내역 CSV 파싱
+     * 분류 결과 커서 기반 조회 (companyId가 없으면 미분류 거래 내역)
+     * - (transaction_date, id) 내림차순 키셋 페이지네이션으로 페이지 깊이와 무관하게 일정한 비용
+     * - 전체 건수는 includeTotal=true 인 경우에만 계산
      */
-    private List<BankTransactionDto> parseTransactionsFile(MultipartFile transactionsFile) throws Exception {
-        List<BankTransactionDto> transactions = new ArrayList<>();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-        try (Reader reader = new InputStreamReader(transactionsFile.getInputStream(), StandardCharsets.UTF_8);
-             CSVParser parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)) {
-
-            for (CSVRecord record : parser) {
-                BankTransactionDto dto = new BankTransactionDto();
-                dto.setTransactionDate(LocalDateTime.parse(record.get("거래일시"), formatter));
-                dto.setDescription(record.get("적요"));
-                dto.setDepositAmount(parseAmount(record.get("입금액")));
-                dto.setWithdrawalAmount(parseAmount(record.get("출금액")));
-                dto.setBalanceAfter(parseAmount(record.get("거래후잔액")));
-                dto.setBranch(record.get("거래점"));
-
-                transactions.add(dto);
+    @Transactional(readOnly = true)
+    public RecordSliceDto getAccountingRecordSlice(String companyId, String cursor, int size, boolean includeTotal) {
+        RecordCursor after = cursor == null || cursor.isBlank() ? null : RecordCursor.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+
+        List<AccountingRecordDto> records;
+        Long totalElements = null;
+        if (companyId == null || companyId.trim().isEmpty()) {
+            records = after == null
+                    ? bankTransactionRepository.findUnclassifiedRecordsFirst(limit)
+                    : bankTransactionRepository.findUnclassifiedRecordsAfter(after.transactionDate, after.id, limit);
+            if (includeTotal) {
+                totalElements = bankTransactionRepository.countByIsClassifiedFalse();
+            }
+        } else {
+            // 회사 PK를 먼저 확인해 (company_id, transaction_date, id) 인덱스를 그대로 사용
+            Long companyPk = companyRepository.findByCompanyId(companyId)
+                    .map(Company::getId)
+                    .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
+            records = after == null
+                    ? bankTransactionRepository.findAccountingRecordsFirst(companyPk, limit)
+                    : bankTransactionRepository.findAccountingRecordsAfter(companyPk, after.transactionDate, after.id, limit);
+            // 아카이브된 달이 있으면 세그먼트에서도 같은 커서 이후를 읽어 병합
+            if (archiveService.hasArchive(companyPk)) {
+                records = RecordOrder.merge(records, archiveService.findRecords(companyPk, true,
+                        after == null ? null : after.transactionDate, after == null ? null : after.id, size + 1),
+                        RecordOrder.DESCENDING, size + 1);
+            }
+            if (includeTotal) {
+                totalElements = companyStatisticsRepository.findById(companyPk)
+                        .map(CompanyStatistics::getTotalTransactions)
+                        .orElse(0L);
             }
         }
 
-        return transactions;
+        return toSlice(records, size, totalElements);
     }
 
     /**
-     * 금액 파싱 (빈 값 처리)
+     * 적요 검색 (ngram FULLTEXT 인덱스, 회사/기간/분류 여부 필터, 커서 기반)
+     * - 아카이브된 달은 세그먼트에서 같은 커서 이후를 검색해 병합
      */
-    private Long parseAmount(String amount) {
-        if (amount == null || amount.trim().isEmpty()) {
-            return 0L;
+    @Transactional(readOnly = true)
+    public RecordSliceDto searchRecords(String query, String companyId, LocalDate from, LocalDate to,
+                                        Boolean classified, String cursor, int size) {
+        String trimmed = query == null ? "" : query.trim();
+        // ngram 토큰 크기(기본 2)보다 짧은 검색어는 인덱스로 찾을 수 없음
+        if (trimmed.length() < 2) {
+            throw new IllegalArgumentException("Search query must be at least 2 characters");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        Long companyPk = null;
+        if (companyId != null && !companyId.trim().isEmpty()) {
+            companyPk = companyRepository.findByCompanyId(companyId)
+                    .map(Company::getId)
+                    .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
         }
-        return Long.parseLong(amount.trim());
+        RecordCursor after = cursor == null || cursor.isBlank() ? null : RecordCursor.decode(cursor);
+
+        List<AccountingRecordDto> records = bankTransactionSearchRepository.search(trimmed, companyPk, from, to,
+                classified, after == null ? null : after.transactionDate, after == null ? null : after.id, size + 1);
+        // 아카이브된 행은 모두 분류 완료이므로 미분류만 찾는 경우를 제외하고 세그먼트 검색 결과와 병합
+        if (!Boolean.FALSE.equals(classified)
+                && (companyPk != null ? archiveService.hasArchive(companyPk) : archiveService.hasAnyArchive())) {
+            records = RecordOrder.merge(records, archiveService.searchRecords(trimmed, companyPk, from, to,
+                    after == null ? null : after.transactionDate, after == null ? null : after.id, size + 1),
+                    RecordOrder.DESCENDING, size + 1);
+        }
+        return toSlice(records, size, null);
     }
 
     /**
-     * 규칙을 데이터베이스에 저장
+     * 한 건 더 조회한 결과로 슬라이스 구성
      */
-    private void saveRulesToDatabase(RulesDto rules) {
-        if (rules == null || rules.getCompanies() == null) {
-            throw new IllegalArgumentException("Rules data is invalid or empty");
+    private RecordSliceDto toSlice(List<AccountingRecordDto> records, int size, Long totalElements) {
+        boolean hasNext = records.size() > size;
+        List<AccountingRecordDto> content = hasNext ? records.subList(0, size) : records;
+
+        RecordSliceDto slice = new RecordSliceDto();
+        slice.setContent(content);
+        slice.setSize(content.size());
+        slice.setHasNext(hasNext);
+        if (hasNext) {
+            AccountingRecordDto last = content.get(content.size() - 1);
+            slice.setNextCursor(new RecordCursor(last.getTransactionDate(), last.getId()).encode());
         }
+        slice.setTotalElements(totalElements);
+        return slice;
+    }
 
-        for (RulesDto.CompanyRule companyRule : rules.getCompanies()) {
-            // 필수 필드 검증
-            if (companyRule.getCompanyId() == null || companyRule.getCompanyId().trim().isEmpty()) {
-                log.error("Company ID is null or empty for company: {}", companyRule.getCompanyName());
-                throw new IllegalArgumentException("Company ID cannot be null or empty");
-            }
-
-            if (companyRule.getCompanyName() == null || companyRule.getCompanyName().trim().isEmpty()) {
-                log.error("Company name is null or empty for company ID: {}", companyRule.getCompanyId());
-                throw new IllegalArgumentException("Company name cannot be null or empty");
-            }
-
-            log.info("Processing company: {} ({})", companyRule.getCompanyName(), companyRule.getCompanyId());
-
-            Company company = companyRepository.findByCompanyId(companyRule.getCompanyId())
-                    .orElseGet(() -> new Company(companyRule.getCompanyId(), companyRule.getCompanyName()));
-
-            company.setCompanyName(companyRule.getCompanyName());
-            company = companyRepository.save(company);
-
-            if (companyRule.getCategories() != null) {
-                for (RulesDto.CategoryRule categoryRule : companyRule.getCategories()) {
-                    // 카테고리 필수 필드 검증
-                    if (categoryRule.getCategoryId() == null || categoryRule.getCategoryId().trim().isEmpty()) {
-                        log.error("Category ID is null or empty for category: {}", categoryRule.getCategoryName());
-                        continue; // 해당 카테고리 스킵
-                    }
-
-                    if (categoryRule.getCategoryName() == null || categoryRule.getCategoryName().trim().isEmpty()) {
-                        log.error("Category name is null or empty for category ID: {}", categoryRule.getCategoryId());
-                        continue; // 해당 카테고리 스킵
-                    }
-
-                    log.info("Processing category: {} ({})", categoryRule.getCategoryName(), categoryRule.getCategoryId());
-
-                    Company finalCompany = company;
-                    Category category = categoryRepository.findByCategoryId(categoryRule.getCategoryId())
-                            .orElseGet(() -> new Category(categoryRule.getCategoryId(), categoryRule.getCategoryName(), finalCompany));
-
-                    category.setCategoryName(categoryRule.getCategoryName());
-                    category.setCompany(company);
-                    category = categoryRepository.save(category);
-
-                    // 기존 키워드 삭제 후 새로 추가
-                    List<Keyword> existingKeywords = keywordRepository.findByCategory_CategoryId(category.getCategoryId());
-                    if (!existingKeywords.isEmpty()) {
-                        keywordRepository.deleteAll(existingKeywords);
-                    }
-
-                    // 키워드 추가
-                    if (categoryRule.getKeywords() != null) {
-                        for (String keywordText : categoryRule.getKeywords()) {
-                            if (keywordText != null && !keywordText.trim().isEmpty()) {
-                                Keyword keyword = new Keyword(keywordText.trim(), category);
-                                keywordRepository.save(keyword);
-                                log.debug("Added keyword: {} for category: {}", keywordText, category.getCategoryName());
-                            }
-                        }
-                    }
-                }
-            }
+    /**
+     * 규칙 파일 파싱
+     */
+    private RulesDto parseRulesFile(SpooledUpload rulesFile) throws Exception {
+        try (Reader reader = new InputStreamReader(rulesFile.getInputStream(), StandardCharsets.UTF_8)) {
+            return objectMapper.readValue(reader, RulesDto.class);
         }
     }
 
     /**
-     * 거래 내역 분류 및 저장
+     * 이미 처리된 업로드 조회
+     * - Idempotency-Key가 있으면 키로 먼저 찾고, 키에 기록된 파일/규칙과 다르면 거부
+     * - 없으면 파일 체크섬과 규칙 버전으로 조회
      */
-    private int classifyAndSaveTransactions(List<BankTransactionDto> transactions, RulesDto rules) {
-        // 키워드 매핑 캐시 생성
-        Map<String, CategoryInfo> keywordToCategory = buildKeywordCache(rules);
-        int classifiedCount = 0;
-
-        for (BankTransactionDto dto : transactions) {
-            // 중복 거래 확인
-            if (bankTransactionRepository.existsByDescriptionAndTransactionDateAndBalanceAfter(
-                    dto.getDescription(), dto.getTransactionDate(), dto.getBalanceAfter())) {
-                continue;
-            }
-
-            BankTransaction transaction = new BankTransaction(
-                    dto.getTransactionDate(),
-                    dto.getDescription(),
-                    dto.getDepositAmount(),
-                    dto.getWithdrawalAmount(),
-                    dto.getBalanceAfter(),
-                    dto.getBranch()
-            );
-
-            // 키워드 매칭을 통한 분류
-            CategoryInfo categoryInfo = classifyTransaction(dto.getDescription(), keywordToCategory);
-            if (categoryInfo != null) {
-                Company company = companyRepository.findByCompanyId(categoryInfo.companyId).orElse(null);
-                Category category = categoryRepository.findByCategoryId(categoryInfo.categoryId).orElse(null);
-
-                if (company != null && category != null) {
-                    transaction.setCompany(company);
-                    transaction.setCategory(category);
-                    transaction.setIsClassified(true);
-                    classifiedCount++;
+    private IngestionFile findProcessedFile(SpooledUpload transactionsFile, String ruleVersion, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<IngestionFile> byKey = ingestionFileRepository.findByIdempotencyKey(idempotencyKey);
+            if (byKey.isPresent()) {
+                IngestionFile file = byKey.get();
+                if (!file.getChecksum().equals(transactionsFile.getChecksum()) || !file.getRuleVersion().equals(ruleVersion)) {
+                    throw new IllegalArgumentException("Idempotency-Key already used for a different upload: " + idempotencyKey);
                 }
+                return file;
             }
-
-            bankTransactionRepository.save(transaction);
         }
-
-        return classifiedCount;
+        return ingestionFileRepository.findByChecksumAndRuleVersion(transactionsFile.getChecksum(), ruleVersion)
+                .orElse(null);
     }
 
     /**
-     * 키워드 캐시 구성
+     * 처리 완료된 업로드 기록 (동시에 같은 파일이 처리되어 이미 기록된 경우는 무시)
      */
-    private Map<String, CategoryInfo> buildKeywordCache(RulesDto rules) {
-        Map<String, CategoryInfo> cache = new HashMap<>();
-
-        for (RulesDto.CompanyRule company : rules.getCompanies()) {
-            for (RulesDto.CategoryRule category : company.getCategories()) {
-                for (String keyword : category.getKeywords()) {
-                    cache.put(keyword.toLowerCase(),
-                            new CategoryInfo(company.getCompanyId(), category.getCategoryId()));
-                }
-            }
+    private void recordProcessedFile(SpooledUpload transactionsFile, String ruleVersion, String idempotencyKey,
+                                     String runId, int totalTransactions, int classifiedTransactions) {
+        try {
+            ingestionFileRepository.save(new IngestionFile(transactionsFile.getChecksum(), ruleVersion, idempotencyKey,
+                    transactionsFile.getOriginalFilename(), transactionsFile.getSize(),
+                    runId, totalTransactions, classifiedTransactions));
+        } catch (DataIntegrityViolationException e) {
+            log.info("Upload {} already recorded for rule version {}", transactionsFile.getChecksum(), ruleVersion);
         }
+    }
 
-        return cache;
+    private ProcessingResponseDto toReplayResponse(IngestionFile file) {
+        ProcessingResponseDto response = new ProcessingResponseDto(file.getTotalTransactions(), file.getClassifiedTransactions());
+        response.setRunId(file.getRunId());
+        response.setMessage(String.format("Upload already processed. %d/%d transactions classified.",
+                file.getClassifiedTransactions(), file.getTotalTransactions()));
+        return response;
     }
 
     /**
-     * 거래 내역 분류 로직
+     * 처리 이력 생성 또는 재개 대상 조회
      */
-    private CategoryInfo classifyTransaction(String description, Map<String, CategoryInfo> keywordToCategory) {
-        if (description == null || description.trim().isEmpty()) {
-            return null;
+    private IngestionRun startOrResumeRun(SpooledUpload transactionsFile, String resumeRunId) {
+        if (resumeRunId == null || resumeRunId.trim().isEmpty()) {
+            IngestionRun run = new IngestionRun(UUID.randomUUID().toString(),
+                    transactionsFile.getOriginalFilename(), transactionsFile.getSize());
+            return ingestionRunRepository.save(run);
         }
 
-        String lowerDescription = description.toLowerCase();
+        IngestionRun run = ingestionRunRepository.findByRunId(resumeRunId)
+                .orElseThrow(() -> new IllegalArgumentException("Ingestion run not found: " + resumeRunId));
 
-        // 키워드 매칭 (가장 긴 키워드 우선)
-        return keywordToCategory.entrySet().stream()
-                .filter(entry -> lowerDescription.contains(entry.getKey()))
-                .max(Comparator.comparing(entry -> entry.getKey().length()))
-                .map(Map.Entry::getValue)
-                .orElse(null);
+        if (run.getStatus() == IngestionRun.Status.COMPLETED) {
+            throw new IllegalArgumentException("Ingestion run already completed: " + resumeRunId);
+        }
+
+        if (run.getFileSize() != null && run.getFileSize() != transactionsFile.getSize()) {
+            throw new IllegalArgumentException("Transactions file does not match ingestion run: " + resumeRunId);
+        }
+
+        log.info("Resuming ingestion run {} from row {}", resumeRunId, run.getProcessedRows());
+        ingestionRunRepository.updateStatus(run.getId(), IngestionRun.Status.RUNNING, null);
+        return run;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
     }
 
     /**
-     * 카테고리 정보 내부 클래스
+     * 분류 결과 대기 (분류 스레드에서 발생한 예외는 원인 예외로 전달)
      */
-    private static class CategoryInfo {
-        final String companyId;
-        final String categoryId;
+    private List<ClassifiedTransaction> awaitClassification(CompletableFuture<List<ClassifiedTransaction>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-        CategoryInfo(String companyId, String categoryId) {
-            this.companyId = companyId;
-            this.categoryId = categoryId;
+    /**
+     * 파싱 단계: 다음 청크 분량의 행 읽기
+     */
+    private List<BankTransactionDto> readChunk(TransactionReader reader) {
+        Timer.Sample sample = metrics.startStage();
+        List<BankTransactionDto> rows = new ArrayList<>(chunkSize);
+        while (rows.size() < chunkSize && reader.hasNext()) {
+            rows.add(reader.next());
         }
+        metrics.stopStage(sample, "parse");
+        return rows;
     }
 
     /**
-     * 회사 통계 조회
+     * 회사 통계 조회 (카운터 테이블 단건 조회)
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getCompanyStatistics(String companyId) {
-        long totalCount = bankTransactionRepository.countByCompanyId(companyId);
-        long classifiedCount = bankTransactionRepository.countClassifiedByCompanyId(companyId);
+        CompanyStatisticsDto statistics = companyStatisticsRepository.findStatisticsByCompanyId(companyId)
+                .orElseGet(() -> new CompanyStatisticsDto(companyId, null, 0, 0));
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("companyId", companyId);
-        stats.put("totalTransactions", totalCount);
-        stats.put("classifiedTransactions", classifiedCount);
-        stats.put("unclassifiedTransactions", totalCount - classifiedCount);
-        stats.put("classificationRate", totalCount > 0 ? (double) classifiedCount / totalCount * 100 : 0.0);
+        stats.put("totalTransactions", statistics.getTotalTransactions());
+        stats.put("classifiedTransactions", statistics.getClassifiedTransactions());
+        stats.put("unclassifiedTransactions", statistics.getUnclassifiedTransactions());
+        stats.put("classificationRate", statistics.getClassificationRate());
 
         return stats;
     }
 
     /**
-     * 전체 회사 목록 조회
+     * 전체 회사 통계 조회 (한 번의 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<CompanyDto> getAllCompanies() {
-        return companyRepository.findAll().stream()
-                .map(this::convertToCompanyDto)
-                .collect(Collectors.toList());
+    public List<CompanyStatisticsDto> getAllCompanyStatistics() {
+        return companyStatisticsRepository.findAllStatistics();
     }
 
     /**
-     * Company Entity를 DTO로 변환
+     * 회사별 통계 카운터 재계산 (거래 내역 원본 기준)
+     * - 카운터가 어긋났을 때의 복구용이며, 처리 작업이 없는 시점에 실행해야 한다
      */
-    private CompanyDto convertToCompanyDto(Company company) {
-        CompanyDto dto = new CompanyDto();
-        dto.setId(company.getId());
-        dto.setCompanyId(company.getCompanyId());
-        dto.setCompanyName(company.getCompanyName());
-        dto.setCreatedAt(company.getCreatedAt());
-        dto.setUpdatedAt(company.getUpdatedAt());
-
-        List<CategoryDto> categoryDtos = company.getCategories().stream()
-                .map(this::convertToCategoryDto)
-                .collect(Collectors.toList());
-        dto.setCategories(categoryDtos);
-
-        return dto;
+    public int rebuildCompanyStatistics() {
+        int companies = companyStatisticsBatchRepository.rebuild();
+        log.info("Rebuilt company statistics for {} companies", companies);
+        return companies;
     }
 
     /**
-     * Category Entity를 DTO로 변환
+     * 회사의 월별/계정과목별 입출금 합계 (monthly_rollup만 조회)
+     * @param from 시작 월 (포함, null이면 제한 없음)
+     * @param to   종료 월 (포함, null이면 제한 없음)
      */
-    private CategoryDto convertToCategoryDto(Category category) {
-        CategoryDto dto = new CategoryDto();
-        dto.setId(category.getId());
-        dto.setCategoryId(category.getCategoryId());
-        dto.setCategoryName(category.getCategoryName());
-        dto.setCreatedAt(category.getCreatedAt());
-        dto.setUpdatedAt(category.getUpdatedAt());
-
-        List<String> keywords = category.getKeywords().stream()
-                .map(Keyword::getKeyword)
-                .collect(Collectors.toList());
-        dto.setKeywords(keywords);
-
-        return dto;
+    @Transactional(readOnly = true)
+    public List<MonthlyRollupDto> getMonthlyRollups(String companyId, YearMonth from, YearMonth to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        Long companyPk = companyCatalog.getSnapshot().getCompanies().stream()
+                .filter(company -> company.getCompanyId().equals(companyId))
+                .map(CompanyDto::getId)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
+
+        // 기간 문자열(yyyy-MM)은 사전순이 곧 시간순
+        return monthlyRollupRepository.findByCompanyAndPeriods(companyPk,
+                from == null ? "0000-00" : from.toString(),
+                to == null ? "9999-99" : to.toString());
+    }
+
+    /**
+     * 월별 롤업 재계산 (핫 테이블 + 아카이브 세그먼트)
+     * - 롤업이 어긋났을 때의 복구용이며, 처리 작업이 없는 시점에 실행해야 한다
+     * @return 재계산 후 롤업 행 수
+     */
+    public int rebuildMonthlyRollups() {
+        monthlyRollupBatchRepository.rebuild();
+        monthlyRollupBatchRepository.increment(archiveService.summarizeArchivedRows());
+        int rows = (int) monthlyRollupRepository.count();
+        log.info("Rebuilt {} monthly rollup rows", rows);
+        return rows;
+    }
+
+    /**
+     * 전체 회사 목록 조회 (규칙 버전별 스냅샷, 규칙 변경 전까지 DB 조회 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompanyCatalogSnapshot getCompanyCatalog() {
+        return companyCatalog.getSnapshot();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CompanyDto> getAllCompanies() {
+        return companyCatalog.getSnapshot().getCompanies();
     }
 }
\ No newline at end of file
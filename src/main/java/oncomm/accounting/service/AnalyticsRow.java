@@ -0,0 +1,41 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.entity.BankTransaction;
+
+/**
+ * 분석 스냅샷에 덧붙일 저장된 분류 완료 행
+ * - ID는 스냅샷 적재 중에 커밋된 행이 적재 결과에 이미 들어갔는지 가려내는 데 사용
+ */
+final class AnalyticsRow {
+    final long id;
+    final long companyPk;
+    // epoch second (UTC 기준 LocalDateTime)
+    final long transactionDate;
+    final long depositAmount;
+    final long withdrawalAmount;
+    final String branch;
+    final long categoryPk;
+
+    AnalyticsRow(long id, long companyPk, long transactionDate, long depositAmount, long withdrawalAmount,
+                 String branch, long categoryPk) {
+        this.id = id;
+        this.companyPk = companyPk;
+        this.transactionDate = transactionDate;
+        this.depositAmount = depositAmount;
+        this.withdrawalAmount = withdrawalAmount;
+        this.branch = branch;
+        this.categoryPk = categoryPk;
+    }
+
+    /**
+     * 저장 후 ID가 설정된 엔티티와 분류 결과로 생성
+     */
+    static AnalyticsRow of(BankTransaction transaction, CategoryInfo categoryInfo) {
+        return new AnalyticsRow(transaction.getId(), categoryInfo.companyPk,
+                ArchiveSegmentFile.toEpochSecond(transaction.getTransactionDate()),
+                transaction.getDepositAmount() != null ? transaction.getDepositAmount() : 0L,
+                transaction.getWithdrawalAmount() != null ? transaction.getWithdrawalAmount() : 0L,
+                transaction.getBranch(),
+                categoryInfo.categoryPk);
+    }
+}
@@ -0,0 +1,368 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.AnalyticsResultDto;
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import oncomm.accounting.repository.BankTransactionAnalyticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회사별 인메모리 컬럼 스냅샷 기반 집계 (group-by / sum / filter)
+ * - 회사를 처음 조회할 때 핫 테이블과 아카이브 세그먼트에서 한 번 적재하고, 이후 집계는 MySQL을 조회하지 않는다
+ * - 수집 청크가 커밋되면 분류 완료 행을 적재된 스냅샷 뒤에 덧붙인다 (증분 갱신)
+ * - 적재는 수집 커밋을 막지 않으며, 적재 중 커밋된 행은 ID로 적재 결과와 비교해 한 번만 반영
+ * - 재분류/아카이브처럼 기존 행이 바뀌면 해당 회사 스냅샷을 버리고 다음 조회에서 다시 적재
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsService {
+
+    /**
+     * 그룹 정렬 기준 (key는 오름차순, 나머지는 내림차순)
+     */
+    enum OrderBy {
+        KEY,
+        COUNT,
+        DEPOSIT,
+        WITHDRAWAL;
+
+        static OrderBy from(String value) {
+            try {
+                return OrderBy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported orderBy: " + value);
+            }
+        }
+    }
+
+    private final BankTransactionAnalyticsRepository analyticsRepository;
+    private final ArchiveService archiveService;
+    private final CompanyCatalog companyCatalog;
+
+    private final Map<Long, CompanySnapshot> snapshots = new ConcurrentHashMap<>();
+    // 적재 중인 회사 (적재 중 커밋된 행을 모아 두어 빠지거나 두 번 들어가지 않게 함)
+    private final Map<Long, Loading> loadings = new ConcurrentHashMap<>();
+    // 무효화 횟수 (적재 중 무효화되면 오래된 스냅샷을 저장하지 않기 위함)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 회사 거래 집계
+     * @param from     거래일 하한 (포함, null이면 제한 없음)
+     * @param to       거래일 상한 (포함, null이면 제한 없음)
+     * @param groupBy  none / category / branch / month
+     * @param orderBy  key / count / deposit / withdrawal
+     * @param limit    반환할 최대 그룹 수 (null이면 전체)
+     */
+    public AnalyticsResultDto aggregate(String companyId, LocalDate from, LocalDate to, String categoryId,
+                                        String branch, String groupBy, String orderBy, Integer limit) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        CompanyColumns.GroupBy grouping = CompanyColumns.GroupBy.from(groupBy);
+        OrderBy ordering = OrderBy.from(orderBy);
+
+        CompanyDto company = companyCatalog.getSnapshot().getCompanies().stream()
+                .filter(candidate -> candidate.getCompanyId().equals(companyId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
+        Map<Long, CategoryDto> categories = new HashMap<>();
+        Long categoryPk = null;
+        for (CategoryDto category : company.getCategories()) {
+            categories.put(category.getId(), category);
+            if (category.getCategoryId().equals(categoryId)) {
+                categoryPk = category.getId();
+            }
+        }
+        if (categoryId != null && categoryPk == null) {
+            throw new IllegalArgumentException("Category not found: " + categoryId);
+        }
+
+        CompanyColumns columns = getColumns(company.getId());
+        int categoryCode = categoryPk == null ? -1 : columns.categoryCode(categoryPk);
+        int branchCode = branch == null ? -1 : columns.branchCode(branch);
+        long fromSecond = from == null ? Long.MIN_VALUE : ArchiveSegmentFile.toEpochSecond(from.atStartOfDay());
+        long toSecond = to == null ? Long.MAX_VALUE : ArchiveSegmentFile.toEpochSecond(to.plusDays(1).atStartOfDay());
+
+        // 스냅샷에 없는 계정과목/거래점으로 거르면 결과 없음
+        boolean noMatch = (categoryPk != null && categoryCode < 0) || (branch != null && branchCode < 0);
+        CompanyColumns.Aggregation aggregation = noMatch
+                ? new CompanyColumns.Aggregation(grouping, 0, 0)
+                : columns.aggregate(fromSecond, toSecond, categoryCode, branchCode, grouping);
+
+        AnalyticsResultDto result = new AnalyticsResultDto();
+        result.setCompanyId(companyId);
+        result.setGroupBy(grouping.name().toLowerCase(Locale.ROOT));
+        result.setFrom(from);
+        result.setTo(to);
+        result.setCategoryId(categoryId);
+        result.setBranch(branch);
+        result.setSnapshotRows(columns.size);
+
+        List<AnalyticsResultDto.Group> groups = new ArrayList<>();
+        for (int i = 0; i < aggregation.counts.length; i++) {
+            if (aggregation.counts[i] == 0) {
+                continue;
+            }
+            result.setMatchedRows(result.getMatchedRows() + aggregation.counts[i]);
+            result.setDepositTotal(result.getDepositTotal() + aggregation.depositSums[i]);
+            result.setWithdrawalTotal(result.getWithdrawalTotal() + aggregation.withdrawalSums[i]);
+
+            AnalyticsResultDto.Group group = new AnalyticsResultDto.Group();
+            switch (grouping) {
+                case CATEGORY -> {
+                    CategoryDto category = categories.get(columns.categoryPks[i]);
+                    group.setKey(category != null ? category.getCategoryId() : null);
+                    group.setName(category != null ? category.getCategoryName() : null);
+                }
+                case BRANCH -> group.setKey(columns.branchNames[i]);
+                case MONTH -> {
+                    int month = aggregation.keyBase + i;
+                    group.setKey(YearMonth.of(month / 12, month % 12 + 1).toString());
+                }
+                default -> {
+                }
+            }
+            group.setCount(aggregation.counts[i]);
+            group.setDepositTotal(aggregation.depositSums[i]);
+            group.setWithdrawalTotal(aggregation.withdrawalSums[i]);
+            groups.add(group);
+        }
+
+        if (grouping != CompanyColumns.GroupBy.NONE) {
+            groups.sort(comparator(ordering));
+            result.setGroups(limit != null && groups.size() > limit ? groups.subList(0, limit) : groups);
+        }
+        return result;
+    }
+
+    private static Comparator<AnalyticsResultDto.Group> comparator(OrderBy orderBy) {
+        return switch (orderBy) {
+            case KEY -> Comparator.comparing(AnalyticsResultDto.Group::getKey, Comparator.nullsLast(Comparator.naturalOrder()));
+            case COUNT -> Comparator.comparingLong(AnalyticsResultDto.Group::getCount).reversed();
+            case DEPOSIT -> Comparator.comparingLong(AnalyticsResultDto.Group::getDepositTotal).reversed();
+            case WITHDRAWAL -> Comparator.comparingLong(AnalyticsResultDto.Group::getWithdrawalTotal).reversed();
+        };
+    }
+
+    // ===== 스냅샷 관리 =====
+
+    /**
+     * 회사 스냅샷 조회 (없으면 적재)
+     * - 적재는 락 없이 진행하고, 그동안 커밋된 청크의 행은 회사별 버퍼에 모았다가 적재가 끝나면 반영
+     * - 같은 회사를 동시에 조회하면 먼저 시작한 적재 결과를 기다린다
+     */
+    private CompanyColumns getColumns(Long companyPk) {
+        CompanySnapshot snapshot = snapshots.get(companyPk);
+        if (snapshot != null) {
+            return snapshot.columns;
+        }
+
+        Loading loading = new Loading();
+        Loading inProgress = loadings.putIfAbsent(companyPk, loading);
+        if (inProgress != null) {
+            return inProgress.await();
+        }
+        try {
+            CompanyColumns columns = load(companyPk, loading);
+            loading.result.complete(columns);
+            return columns;
+        } catch (RuntimeException e) {
+            loading.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.close();
+            loadings.remove(companyPk, loading);
+        }
+    }
+
+    /**
+     * 아카이브 세그먼트와 핫 테이블에서 회사 스냅샷 적재
+     * - 핫 테이블은 시작 시점의 최대 ID(high-water mark) 이하만 읽고, 읽은 ID를 기록해 둔다
+     * - 적재 중 버퍼에 모인 행 중 읽지 않은 행(mark보다 크거나, mark 이하지만 읽을 때 아직 커밋되지 않았던 행)만 덧붙인다
+     */
+    private CompanyColumns load(Long companyPk, Loading loading) {
+        long loadedGeneration = generation.get();
+        long startedAt = System.nanoTime();
+        long highWaterMark = analyticsRepository.findMaxId();
+
+        CompanyColumns.Builder builder = new CompanyColumns.Builder();
+        archiveService.forEachSegment(companyPk, rows -> {
+            for (int i = 0; i < rows.size(); i++) {
+                builder.append(rows.dates[i], rows.deposits[i], rows.withdrawals[i], rows.branches[i], rows.categoryPks[i]);
+            }
+        });
+        LoadedIds loadedIds = new LoadedIds();
+        analyticsRepository.streamCompanyRows(companyPk, highWaterMark, rs -> {
+            loadedIds.add(rs.getLong("id"));
+            builder.append(
+                    ArchiveSegmentFile.toEpochSecond(rs.getTimestamp("transaction_date").toLocalDateTime()),
+                    rs.getLong("deposit_amount"),
+                    rs.getLong("withdrawal_amount"),
+                    rs.getString("branch"),
+                    rs.getLong("category_id"));
+        });
+        loadedIds.sort();
+
+        CompanySnapshot snapshot;
+        int replayed = 0;
+        // 버퍼 반영과 스냅샷 게시를 덧붙이기와 겹치지 않게 처리 (이후 덧붙이기는 게시된 스냅샷으로 감)
+        synchronized (loading) {
+            for (AnalyticsRow row : loading.buffer) {
+                if (row.id > highWaterMark || !loadedIds.contains(row.id)) {
+                    builder.append(row.transactionDate, row.depositAmount, row.withdrawalAmount, row.branch, row.categoryPk);
+                    replayed++;
+                }
+            }
+            snapshot = new CompanySnapshot(builder);
+            if (generation.get() == loadedGeneration) {
+                snapshots.put(companyPk, snapshot);
+            }
+            loading.close();
+        }
+        log.info("Loaded analytics snapshot for company {} ({} rows, {} replayed from concurrent commits, in {} ms)",
+                companyPk, builder.size(), replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return snapshot.columns;
+    }
+
+    /**
+     * 수집 청크의 분류 완료 행을 커밋 이후 적재된 스냅샷에 덧붙이도록 등록 (청크 트랜잭션 안에서 호출)
+     * - 아직 적재되지 않은 회사는 건너뛰고 처음 조회할 때 함께 적재된다
+     * - 적재 중인 회사는 적재 버퍼에 넣는다
+     */
+    void appendAfterCommit(List<AnalyticsRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(rows);
+            }
+        });
+    }
+
+    private void append(List<AnalyticsRow> rows) {
+        Map<Long, List<AnalyticsRow>> byCompany = new HashMap<>();
+        for (AnalyticsRow row : rows) {
+            byCompany.computeIfAbsent(row.companyPk, pk -> new ArrayList<>()).add(row);
+        }
+        byCompany.forEach((companyPk, companyRows) -> {
+            Loading loading = loadings.get(companyPk);
+            if (loading != null && loading.offer(companyRows)) {
+                return;
+            }
+            CompanySnapshot snapshot = snapshots.get(companyPk);
+            if (snapshot != null) {
+                snapshot.append(companyRows);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onCompanyTransactionsChanged(CompanyTransactionsChangedEvent event) {
+        generation.incrementAndGet();
+        event.getCompanyPks().forEach(snapshots::remove);
+        log.debug("Analytics snapshots invalidated for companies {}", event.getCompanyPks());
+    }
+
+    /**
+     * 회사 한 곳의 스냅샷 (append는 회사 단위로 직렬화, 조회는 마지막으로 게시된 뷰를 락 없이 읽음)
+     */
+    private static final class CompanySnapshot {
+        private final CompanyColumns.Builder builder;
+        private volatile CompanyColumns columns;
+
+        CompanySnapshot(CompanyColumns.Builder builder) {
+            this.builder = builder;
+            this.columns = builder.build();
+        }
+
+        synchronized void append(List<AnalyticsRow> rows) {
+            for (AnalyticsRow row : rows) {
+                builder.append(row.transactionDate, row.depositAmount, row.withdrawalAmount, row.branch, row.categoryPk);
+            }
+            columns = builder.build();
+        }
+    }
+
+    /**
+     * 진행 중인 회사 스냅샷 적재 (적재 중 커밋된 행 버퍼, 동시 조회가 기다릴 결과)
+     */
+    private static final class Loading {
+        private final List<AnalyticsRow> buffer = new ArrayList<>();
+        private final CompletableFuture<CompanyColumns> result = new CompletableFuture<>();
+        private boolean closed;
+
+        /**
+         * @return 적재가 이미 끝나 버퍼에 넣지 못했으면 false (게시된 스냅샷에 덧붙여야 함)
+         */
+        synchronized boolean offer(List<AnalyticsRow> rows) {
+            if (closed) {
+                return false;
+            }
+            buffer.addAll(rows);
+            return true;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        CompanyColumns await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 적재에서 읽은 핫 테이블 행 ID (정렬 후 이진 탐색)
+     */
+    private static final class LoadedIds {
+        private long[] ids = new long[1024];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void sort() {
+            Arrays.sort(ids, 0, size);
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
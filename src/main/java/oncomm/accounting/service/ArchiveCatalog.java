@@ -0,0 +1,84 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.entity.ArchiveSegment;
+import oncomm.accounting.repository.ArchiveSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 아카이브 세그먼트 목록 (메모리 스냅샷)
+ * - 처음 조회할 때 archive_segment 전체를 읽고, 아카이브 작업이 끝날 때마다 다시 읽는다
+ * - 아카이브가 없는 회사/기간은 조회와 수집 경로에서 DB나 파일을 전혀 읽지 않도록 판단하는 데 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchiveCatalog {
+
+    private final ArchiveSegmentRepository archiveSegmentRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private static final class Snapshot {
+        // 회사 PK → 기간 오름차순 세그먼트
+        final Map<Long, List<ArchiveSegment>> segmentsByCompany = new HashMap<>();
+        final Map<Long, Long> rowCountByCompany = new HashMap<>();
+        final Set<YearMonth> periods = new HashSet<>();
+    }
+
+    /**
+     * 회사의 세그먼트 목록 (기간 오름차순)
+     */
+    List<ArchiveSegment> getSegments(Long companyPk) {
+        return get().segmentsByCompany.getOrDefault(companyPk, List.of());
+    }
+
+    /**
+     * 세그먼트가 있는 회사 PK 목록
+     */
+    Set<Long> getCompanyPks() {
+        return get().segmentsByCompany.keySet();
+    }
+
+    long getArchivedRowCount(Long companyPk) {
+        return get().rowCountByCompany.getOrDefault(companyPk, 0L);
+    }
+
+    /**
+     * 어느 회사든 해당 월이 아카이브되어 있는지 여부
+     */
+    boolean isArchivedPeriod(YearMonth period) {
+        return get().periods.contains(period);
+    }
+
+    void refresh() {
+        snapshot.set(load());
+    }
+
+    private Snapshot get() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            current = load();
+            snapshot.compareAndSet(null, current);
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        Snapshot loaded = new Snapshot();
+        for (ArchiveSegment segment : archiveSegmentRepository.findAllByOrderByCompanyPkAscPeriodAsc()) {
+            loaded.segmentsByCompany.computeIfAbsent(segment.getCompanyPk(), pk -> new ArrayList<>()).add(segment);
+            loaded.rowCountByCompany.merge(segment.getCompanyPk(), (long) segment.getRowCount(), Long::sum);
+            loaded.periods.add(YearMonth.parse(segment.getPeriod()));
+        }
+        return loaded;
+    }
+}
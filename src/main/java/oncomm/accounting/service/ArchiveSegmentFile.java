@@ -0,0 +1,484 @@
+package oncomm.accounting.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 아카이브 세그먼트 파일 형식 (회사 한 곳의 한 달치 거래 내역)
+ * - 행은 (transaction_date, id) 오름차순, 컬럼마다 따로 인코딩해 Deflate로 압축
+ * - ID/일시/잔액은 직전 행과의 차이, 금액은 zigzag 가변 길이 정수, 문자열은 길이 + UTF-8
+ * - 파일 끝의 footer에 회사/기간, 행 수, 일시 범위, 계정과목 사전, 컬럼 위치를 기록
+ *
+ * <pre>
+ * [MAGIC][컬럼 블록...][footer][footer 길이][MAGIC]
+ * </pre>
+ */
+final class ArchiveSegmentFile {
+
+    private static final int MAGIC = 0x41435347; // "ACSG"
+    private static final int FORMAT_VERSION = 1;
+    private static final int FINGERPRINT_BYTES = 32;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final String[] COLUMNS = {
+            "id", "transaction_date", "description", "deposit_amount", "withdrawal_amount",
+            "balance_after", "branch", "category", "fingerprint"
+    };
+
+    private ArchiveSegmentFile() {
+    }
+
+    /**
+     * 세그먼트 메타데이터 (파일 끝 footer)
+     */
+    static final class Footer {
+        final long companyPk;
+        final String period;
+        final int rowCount;
+        final LocalDateTime minTransactionDate;
+        final LocalDateTime maxTransactionDate;
+        // 계정과목 사전 (아카이브 시점의 PK, ID, 이름)
+        final long[] categoryPks;
+        final String[] categoryIds;
+        final String[] categoryNames;
+        // 컬럼 이름 → {파일 내 위치, 길이}
+        final Map<String, long[]> columns;
+
+        Footer(long companyPk, String period, int rowCount, LocalDateTime minTransactionDate,
+               LocalDateTime maxTransactionDate, long[] categoryPks, String[] categoryIds, String[] categoryNames,
+               Map<String, long[]> columns) {
+            this.companyPk = companyPk;
+            this.period = period;
+            this.rowCount = rowCount;
+            this.minTransactionDate = minTransactionDate;
+            this.maxTransactionDate = maxTransactionDate;
+            this.categoryPks = categoryPks;
+            this.categoryIds = categoryIds;
+            this.categoryNames = categoryNames;
+            this.columns = columns;
+        }
+    }
+
+    /**
+     * 컬럼형 행 묶음 (메모리 표현)
+     * - 계정과목은 PK로 보관하고 파일에 쓸 때 사전 인덱스로 바꾼다
+     */
+    static final class Rows {
+        int size;
+        long[] ids = new long[1024];
+        long[] dates = new long[1024];
+        long[] deposits = new long[1024];
+        long[] withdrawals = new long[1024];
+        long[] balances = new long[1024];
+        String[] descriptions = new String[1024];
+        String[] branches = new String[1024];
+        long[] categoryPks = new long[1024];
+        String[] fingerprints = new String[1024];
+
+        void add(long id, LocalDateTime transactionDate, String description, long deposit, long withdrawal,
+                 long balance, String branch, long categoryPk, String fingerprint) {
+            if (size == ids.length) {
+                grow(size * 2);
+            }
+            ids[size] = id;
+            dates[size] = toEpochSecond(transactionDate);
+            descriptions[size] = description;
+            deposits[size] = deposit;
+            withdrawals[size] = withdrawal;
+            balances[size] = balance;
+            branches[size] = branch;
+            categoryPks[size] = categoryPk;
+            fingerprints[size] = fingerprint;
+            size++;
+        }
+
+        void addAll(Rows other) {
+            for (int i = 0; i < other.size; i++) {
+                if (size == ids.length) {
+                    grow(size * 2);
+                }
+                ids[size] = other.ids[i];
+                dates[size] = other.dates[i];
+                descriptions[size] = other.descriptions[i];
+                deposits[size] = other.deposits[i];
+                withdrawals[size] = other.withdrawals[i];
+                balances[size] = other.balances[i];
+                branches[size] = other.branches[i];
+                categoryPks[size] = other.categoryPks[i];
+                fingerprints[size] = other.fingerprints[i];
+                size++;
+            }
+        }
+
+        private void grow(int capacity) {
+            ids = Arrays.copyOf(ids, capacity);
+            dates = Arrays.copyOf(dates, capacity);
+            deposits = Arrays.copyOf(deposits, capacity);
+            withdrawals = Arrays.copyOf(withdrawals, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+            branches = Arrays.copyOf(branches, capacity);
+            categoryPks = Arrays.copyOf(categoryPks, capacity);
+            fingerprints = Arrays.copyOf(fingerprints, capacity);
+        }
+
+        /**
+         * (transaction_date, id) 오름차순 정렬 (ID가 같으면 뒤에 추가된 행만 유지)
+         */
+        Rows sorted() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> compare(dates[a], ids[a], dates[b], ids[b]));
+
+            Rows sorted = new Rows();
+            for (int k = 0; k < size; k++) {
+                int i = order[k];
+                if (sorted.size > 0 && sorted.ids[sorted.size - 1] == ids[i]) {
+                    sorted.size--;
+                }
+                sorted.add(ids[i], toDateTime(dates[i]), descriptions[i], deposits[i], withdrawals[i],
+                        balances[i], branches[i], categoryPks[i], fingerprints[i]);
+            }
+            return sorted;
+        }
+
+        /**
+         * (date, id) 이상인 첫 행 위치
+         */
+        int lowerBound(long date, long id) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(dates[mid], ids[mid], date, id) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int size() {
+            return size;
+        }
+
+        LocalDateTime transactionDate(int i) {
+            return toDateTime(dates[i]);
+        }
+    }
+
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static int compare(long dateA, long idA, long dateB, long idB) {
+        int byDate = Long.compare(dateA, dateB);
+        return byDate != 0 ? byDate : Long.compare(idA, idB);
+    }
+
+    // ===== 쓰기 =====
+
+    /**
+     * 정렬된 행을 새 파일로 기록 (디스크에 동기화한 뒤 닫음)
+     * @param categoryInfo 계정과목 PK → {계정과목 ID, 이름}
+     * @return 파일에 기록된 footer
+     */
+    static Footer write(Path path, long companyPk, String period, Rows rows,
+                        Map<Long, String[]> categoryInfo) throws IOException {
+        if (rows.size == 0) {
+            throw new IllegalArgumentException("Archive segment must contain at least one row");
+        }
+
+        // 계정과목 사전
+        Map<Long, Integer> dictionary = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size; i++) {
+            dictionary.putIfAbsent(rows.categoryPks[i], dictionary.size());
+        }
+        long[] categoryPks = new long[dictionary.size()];
+        String[] categoryIds = new String[dictionary.size()];
+        String[] categoryNames = new String[dictionary.size()];
+        dictionary.forEach((pk, index) -> {
+            String[] info = categoryInfo.getOrDefault(pk, new String[]{"", ""});
+            categoryPks[index] = pk;
+            categoryIds[index] = info[0];
+            categoryNames[index] = info[1];
+        });
+
+        Map<String, long[]> columns = new LinkedHashMap<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.allocate(4).putInt(MAGIC).flip());
+
+            for (String column : COLUMNS) {
+                byte[] block = encodeColumn(column, rows, dictionary);
+                columns.put(column, new long[]{channel.position(), block.length});
+                writeFully(channel, ByteBuffer.wrap(block));
+            }
+
+            Footer footer = new Footer(companyPk, period, rows.size, rows.transactionDate(0),
+                    rows.transactionDate(rows.size - 1), categoryPks, categoryIds, categoryNames, columns);
+            byte[] footerBytes = encodeFooter(footer);
+            writeFully(channel, ByteBuffer.wrap(footerBytes));
+            writeFully(channel, ByteBuffer.allocate(8).putInt(footerBytes.length).putInt(MAGIC).flip());
+
+            channel.force(true);
+            return footer;
+        }
+    }
+
+    private static byte[] encodeColumn(String column, Rows rows, Map<Long, Integer> dictionary) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater, 8192))) {
+            long previous = 0;
+            for (int i = 0; i < rows.size; i++) {
+                switch (column) {
+                    case "id" -> {
+                        writeSignedVarLong(out, rows.ids[i] - previous);
+                        previous = rows.ids[i];
+                    }
+                    case "transaction_date" -> {
+                        writeSignedVarLong(out, rows.dates[i] - previous);
+                        previous = rows.dates[i];
+                    }
+                    case "balance_after" -> {
+                        writeSignedVarLong(out, rows.balances[i] - previous);
+                        previous = rows.balances[i];
+                    }
+                    case "deposit_amount" -> writeSignedVarLong(out, rows.deposits[i]);
+                    case "withdrawal_amount" -> writeSignedVarLong(out, rows.withdrawals[i]);
+                    case "description" -> writeString(out, rows.descriptions[i]);
+                    case "branch" -> writeString(out, rows.branches[i]);
+                    case "category" -> writeVarLong(out, dictionary.get(rows.categoryPks[i]));
+                    case "fingerprint" -> out.write(HEX.parseHex(rows.fingerprints[i]));
+                    default -> throw new IllegalStateException("Unknown column: " + column);
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeFooter(Footer footer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(footer.companyPk);
+            out.writeUTF(footer.period);
+            out.writeInt(footer.rowCount);
+            out.writeLong(toEpochSecond(footer.minTransactionDate));
+            out.writeLong(toEpochSecond(footer.maxTransactionDate));
+            out.writeInt(footer.categoryPks.length);
+            for (int i = 0; i < footer.categoryPks.length; i++) {
+                out.writeLong(footer.categoryPks[i]);
+                out.writeUTF(footer.categoryIds[i]);
+                out.writeUTF(footer.categoryNames[i]);
+            }
+            out.writeInt(footer.columns.size());
+            for (Map.Entry<String, long[]> column : footer.columns.entrySet()) {
+                out.writeUTF(column.getKey());
+                out.writeLong(column.getValue()[0]);
+                out.writeInt((int) column.getValue()[1]);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    // ===== 읽기 =====
+
+    /**
+     * footer만 읽음 (파일 끝에서 역방향으로 한 번 읽기)
+     */
+    static Footer readFooter(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readFooter(channel, path);
+        }
+    }
+
+    /**
+     * 전체 컬럼 읽기
+     */
+    static Rows read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Footer footer = readFooter(channel, path);
+            Rows rows = new Rows();
+            rows.grow(Math.max(footer.rowCount, 1));
+            rows.size = footer.rowCount;
+
+            for (String column : COLUMNS) {
+                long[] location = footer.columns.get(column);
+                if (location == null) {
+                    throw new IOException("Archive segment " + path + " is missing column " + column);
+                }
+                byte[] block = readFully(channel, location[0], (int) location[1]);
+                try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(block)))) {
+                    decodeColumn(column, in, rows, footer);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static void decodeColumn(String column, DataInputStream in, Rows rows, Footer footer) throws IOException {
+        long previous = 0;
+        byte[] fingerprint = new byte[FINGERPRINT_BYTES];
+        for (int i = 0; i < rows.size; i++) {
+            switch (column) {
+                case "id" -> rows.ids[i] = previous += readSignedVarLong(in);
+                case "transaction_date" -> rows.dates[i] = previous += readSignedVarLong(in);
+                case "balance_after" -> rows.balances[i] = previous += readSignedVarLong(in);
+                case "deposit_amount" -> rows.deposits[i] = readSignedVarLong(in);
+                case "withdrawal_amount" -> rows.withdrawals[i] = readSignedVarLong(in);
+                case "description" -> rows.descriptions[i] = readString(in);
+                case "branch" -> rows.branches[i] = readString(in);
+                case "category" -> rows.categoryPks[i] = footer.categoryPks[(int) readVarLong(in)];
+                case "fingerprint" -> {
+                    in.readFully(fingerprint);
+                    rows.fingerprints[i] = HEX.formatHex(fingerprint);
+                }
+                default -> throw new IllegalStateException("Unknown column: " + column);
+            }
+        }
+    }
+
+    private static Footer readFooter(FileChannel channel, Path path) throws IOException {
+        long size = channel.size();
+        if (size < 12) {
+            throw new IOException("Archive segment " + path + " is truncated");
+        }
+        ByteBuffer trailer = ByteBuffer.wrap(readFully(channel, size - 8, 8));
+        int footerLength = trailer.getInt();
+        if (trailer.getInt() != MAGIC || footerLength <= 0 || footerLength > size - 12) {
+            throw new IOException("Archive segment " + path + " has an invalid footer");
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(readFully(channel, size - 8 - footerLength, footerLength)))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported archive segment version " + version + ": " + path);
+            }
+            long companyPk = in.readLong();
+            String period = in.readUTF();
+            int rowCount = in.readInt();
+            LocalDateTime minTransactionDate = toDateTime(in.readLong());
+            LocalDateTime maxTransactionDate = toDateTime(in.readLong());
+
+            int categoryCount = in.readInt();
+            long[] categoryPks = new long[categoryCount];
+            String[] categoryIds = new String[categoryCount];
+            String[] categoryNames = new String[categoryCount];
+            for (int i = 0; i < categoryCount; i++) {
+                categoryPks[i] = in.readLong();
+                categoryIds[i] = in.readUTF();
+                categoryNames[i] = in.readUTF();
+            }
+
+            int columnCount = in.readInt();
+            Map<String, long[]> columns = new LinkedHashMap<>();
+            for (int i = 0; i < columnCount; i++) {
+                columns.put(in.readUTF(), new long[]{in.readLong(), in.readInt()});
+            }
+            return new Footer(companyPk, period, rowCount, minTransactionDate, maxTransactionDate,
+                    categoryPks, categoryIds, categoryNames, columns);
+        }
+    }
+
+    private static byte[] readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.array();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // ===== 가변 길이 정수 / 문자열 =====
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private static void writeSignedVarLong(OutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readSignedVarLong(InputStream in) throws IOException {
+        long zigzag = readVarLong(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    // null은 0, 그 외는 (바이트 길이 + 1)
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = (int) readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
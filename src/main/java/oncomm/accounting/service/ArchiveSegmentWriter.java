@@ -0,0 +1,55 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.entity.ArchiveSegment;
+import oncomm.accounting.repository.ArchiveBatchRepository;
+import oncomm.accounting.repository.ArchiveSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 세그먼트 파일 기록 이후의 DB 반영
+ * - 세그먼트 등록(또는 교체), 옮긴 행의 지문 기록, bank_transaction 삭제를 한 트랜잭션으로 커밋
+ * - 회사별 통계 카운터는 아카이브된 행도 계속 포함하므로 변경하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchiveSegmentWriter {
+
+    private final ArchiveSegmentRepository archiveSegmentRepository;
+    private final ArchiveBatchRepository archiveBatchRepository;
+
+    /**
+     * @param footer      새로 기록한 세그먼트 파일의 footer
+     * @param filePath    세그먼트 파일 경로
+     * @param fileSize    세그먼트 파일 크기
+     * @param movedIds    이번에 옮긴 bank_transaction 행 ID
+     * @param fingerprints 이번에 옮긴 행의 지문
+     * @return 이전 세그먼트 파일 경로 (처음 아카이브하는 기간이면 null)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String commit(ArchiveSegmentFile.Footer footer, String filePath, long fileSize,
+                         List<Long> movedIds, List<String> fingerprints) {
+        ArchiveSegment segment = archiveSegmentRepository.findByCompanyPkAndPeriod(footer.companyPk, footer.period)
+                .orElseGet(() -> new ArchiveSegment(footer.companyPk, footer.period));
+        String previousFilePath = segment.getFilePath();
+
+        segment.setFilePath(filePath);
+        segment.setRowCount(footer.rowCount);
+        segment.setMinTransactionDate(footer.minTransactionDate);
+        segment.setMaxTransactionDate(footer.maxTransactionDate);
+        segment.setFileSize(fileSize);
+        segment = archiveSegmentRepository.saveAndFlush(segment);
+
+        archiveBatchRepository.insertFingerprints(segment.getId(), fingerprints);
+        int deleted = archiveBatchRepository.deleteTransactions(movedIds);
+        if (deleted != movedIds.size()) {
+            // 그 사이 다른 경로로 삭제된 행이 있으면 세그먼트와 어긋나므로 전체 롤백
+            throw new IllegalStateException("Expected to archive " + movedIds.size() + " rows but deleted " + deleted);
+        }
+        return previousFilePath;
+    }
+}
@@ -0,0 +1,430 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.AccountingRecordDto;
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import oncomm.accounting.entity.ArchiveSegment;
+import oncomm.accounting.repository.ArchiveBatchRepository;
+import oncomm.accounting.repository.MonthlyRollupBatchRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 거래 내역 콜드 티어 (월 단위 아카이브)
+ * - 보존 기간이 지난 달의 분류 완료 행을 회사별로 컬럼형 세그먼트 파일에 옮기고 bank_transaction에서 삭제
+ * - 조회 시 회사에 세그먼트가 있을 때만 파일을 읽어 핫 테이블 결과와 (transaction_date, id) 순서로 병합
+ * - 디코딩한 세그먼트는 행 수 기준 크기 제한이 있는 캐시에 보관
+ */
+@Service
+@Slf4j
+public class ArchiveService {
+
+    private final ArchiveBatchRepository archiveBatchRepository;
+    private final ArchiveSegmentWriter archiveSegmentWriter;
+    private final ArchiveCatalog archiveCatalog;
+    private final CompanyCatalog companyCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path directory;
+    private final int retainMonths;
+    private final Cache<String, ArchiveSegmentFile.Rows> segmentCache;
+    private final ReentrantLock archiveLock = new ReentrantLock();
+
+    public ArchiveService(ArchiveBatchRepository archiveBatchRepository,
+                          ArchiveSegmentWriter archiveSegmentWriter,
+                          ArchiveCatalog archiveCatalog,
+                          CompanyCatalog companyCatalog,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${accounting.archive.directory:./data/archive}") String directory,
+                          @Value("${accounting.archive.retain-months:12}") int retainMonths,
+                          @Value("${accounting.archive.cache-rows:1000000}") long cacheRows) {
+        this.archiveBatchRepository = archiveBatchRepository;
+        this.archiveSegmentWriter = archiveSegmentWriter;
+        this.archiveCatalog = archiveCatalog;
+        this.companyCatalog = companyCatalog;
+        this.eventPublisher = eventPublisher;
+        this.directory = Paths.get(directory);
+        this.retainMonths = retainMonths;
+        this.segmentCache = Caffeine.newBuilder()
+                .maximumWeight(cacheRows)
+                .weigher((String path, ArchiveSegmentFile.Rows rows) -> rows.size())
+                .build();
+    }
+
+    // ===== 아카이브 =====
+
+    /**
+     * 보존 기간(retain-months)이 지난 모든 회사/월 아카이브
+     * - 이미 아카이브된 달에 새로 들어온 행은 기존 세그먼트와 합쳐 새 파일로 교체
+     * @return {archivedSegments, archivedRows, cutoff}
+     */
+    public Map<String, Object> archiveClosedMonths() {
+        if (!archiveLock.tryLock()) {
+            throw new IllegalStateException("Archiving is already in progress");
+        }
+        try {
+            YearMonth cutoff = YearMonth.now().minusMonths(retainMonths);
+            int segments = 0;
+            long rows = 0;
+            for (long[] month : archiveBatchRepository.findClosedMonths(cutoff.atDay(1).atStartOfDay())) {
+                int archived = archiveMonth(month[0], YearMonth.of((int) month[1], (int) month[2]));
+                if (archived > 0) {
+                    segments++;
+                    rows += archived;
+                }
+            }
+
+            log.info("Archived {} rows into {} segments (before {})", rows, segments, cutoff);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("archivedSegments", segments);
+            result.put("archivedRows", rows);
+            result.put("cutoff", cutoff.toString());
+            return result;
+        } finally {
+            archiveLock.unlock();
+        }
+    }
+
+    /**
+     * 회사 한 곳의 한 달치 행을 세그먼트로 옮김
+     * @return 옮긴 행 수
+     */
+    private int archiveMonth(Long companyPk, YearMonth period) {
+        LocalDateTime start = period.atDay(1).atStartOfDay();
+        LocalDateTime end = period.plusMonths(1).atDay(1).atStartOfDay();
+
+        ArchiveSegmentFile.Rows hot = new ArchiveSegmentFile.Rows();
+        archiveBatchRepository.queryMonth(companyPk, start, end, rs -> hot.add(
+                rs.getLong("id"),
+                rs.getTimestamp("transaction_date").toLocalDateTime(),
+                rs.getString("description"),
+                rs.getLong("deposit_amount"),
+                rs.getLong("withdrawal_amount"),
+                rs.getLong("balance_after"),
+                rs.getString("branch"),
+                rs.getLong("category_id"),
+                rs.getString("fingerprint")));
+        if (hot.size() == 0) {
+            return 0;
+        }
+
+        // 이미 아카이브된 달이면 기존 세그먼트와 합침
+        ArchiveSegmentFile.Rows merged = new ArchiveSegmentFile.Rows();
+        archiveCatalog.getSegments(companyPk).stream()
+                .filter(segment -> segment.getPeriod().equals(period.toString()))
+                .findFirst()
+                .ifPresent(segment -> merged.addAll(loadSegment(segment)));
+        merged.addAll(hot);
+
+        List<Long> movedIds = new ArrayList<>(hot.size());
+        List<String> fingerprints = new ArrayList<>(hot.size());
+        for (int i = 0; i < hot.size(); i++) {
+            movedIds.add(hot.ids[i]);
+            fingerprints.add(hot.fingerprints[i]);
+        }
+
+        Path file = newSegmentPath(companyPk, period);
+        ArchiveSegmentFile.Footer footer;
+        String previousFilePath;
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            footer = ArchiveSegmentFile.write(temp, companyPk, period.toString(), merged.sorted(), categoryInfo());
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+
+            previousFilePath = archiveSegmentWriter.commit(footer, file.toString(), Files.size(file), movedIds, fingerprints);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            deleteQuietly(file.resolveSibling(file.getFileName() + ".tmp"));
+            if (e instanceof IOException ioException) {
+                throw new UncheckedIOException("Failed to archive company " + companyPk + " " + period, ioException);
+            }
+            throw (RuntimeException) e;
+        }
+
+        // 새 세그먼트를 목록에 반영한 뒤 이전 파일 삭제
+        archiveCatalog.refresh();
+        eventPublisher.publishEvent(new CompanyTransactionsChangedEvent(Set.of(companyPk)));
+        if (previousFilePath != null) {
+            segmentCache.invalidate(previousFilePath);
+            deleteQuietly(Paths.get(previousFilePath));
+        }
+        log.info("Archived {} rows of company {} for {} ({} rows in segment)", hot.size(), companyPk, period, footer.rowCount);
+        return hot.size();
+    }
+
+    // ===== 조회 =====
+
+    public boolean hasArchive(Long companyPk) {
+        return !archiveCatalog.getSegments(companyPk).isEmpty();
+    }
+
+    /**
+     * 어느 회사든 아카이브된 세그먼트가 있는지 여부
+     */
+    public boolean hasAnyArchive() {
+        return !archiveCatalog.getCompanyPks().isEmpty();
+    }
+
+    public long getArchivedRowCount(Long companyPk) {
+        return archiveCatalog.getArchivedRowCount(companyPk);
+    }
+
+    /**
+     * 아카이브된 분류 결과를 (transaction_date, id) 순서로 최대 limit건 조회
+     * @param descending 내림차순 여부
+     * @param afterDate  커서의 거래일시 (null이면 처음부터)
+     * @param afterId    커서의 ID (커서 행은 제외)
+     */
+    public List<AccountingRecordDto> findRecords(Long companyPk, boolean descending,
+                                                 LocalDateTime afterDate, Long afterId, int limit) {
+        List<ArchiveSegment> segments = new ArrayList<>(archiveCatalog.getSegments(companyPk));
+        if (descending) {
+            Collections.reverse(segments);
+        }
+
+        RecordMapper mapper = new RecordMapper(companyPk);
+        List<AccountingRecordDto> records = new ArrayList<>(Math.min(limit, 1024));
+        for (ArchiveSegment segment : segments) {
+            if (records.size() >= limit) {
+                break;
+            }
+            // 커서 바깥의 세그먼트는 파일을 읽지 않음
+            if (afterDate != null && (descending
+                    ? segment.getMinTransactionDate().isAfter(afterDate)
+                    : segment.getMaxTransactionDate().isBefore(afterDate))) {
+                continue;
+            }
+
+            ArchiveSegmentFile.Rows rows = loadSegment(segment);
+            if (descending) {
+                int start = afterDate == null ? rows.size() - 1
+                        : rows.lowerBound(ArchiveSegmentFile.toEpochSecond(afterDate), afterId) - 1;
+                for (int i = start; i >= 0 && records.size() < limit; i--) {
+                    records.add(mapper.toRecord(rows, i));
+                }
+            } else {
+                int start = afterDate == null ? 0
+                        : rows.lowerBound(ArchiveSegmentFile.toEpochSecond(afterDate), afterId + 1);
+                for (int i = start; i < rows.size() && records.size() < limit; i++) {
+                    records.add(mapper.toRecord(rows, i));
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 아카이브된 행의 적요 부분 문자열 검색 ((transaction_date, id) 내림차순, 최대 limit건)
+     * - 세그먼트에는 전문 인덱스가 없으므로 기간과 커서에 걸치는 세그먼트의 적요를 순서대로 비교 (대소문자 무시)
+     * @param companyPk 회사 PK (null이면 아카이브가 있는 전체 회사)
+     * @param from      시작일, 포함 (null이면 제한 없음)
+     * @param to        종료일, 포함 (null이면 제한 없음)
+     * @param afterDate 커서의 거래일시 (null이면 처음부터)
+     * @param afterId   커서의 ID (커서 행은 제외)
+     */
+    public List<AccountingRecordDto> searchRecords(String query, Long companyPk, LocalDate from, LocalDate to,
+                                                   LocalDateTime afterDate, Long afterId, int limit) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        long fromSecond = from == null ? Long.MIN_VALUE : ArchiveSegmentFile.toEpochSecond(from.atStartOfDay());
+        long toSecond = to == null ? Long.MAX_VALUE : ArchiveSegmentFile.toEpochSecond(to.plusDays(1).atStartOfDay());
+
+        List<AccountingRecordDto> records = new ArrayList<>();
+        for (Long pk : companyPk != null ? Set.of(companyPk) : archiveCatalog.getCompanyPks()) {
+            List<ArchiveSegment> segments = new ArrayList<>(archiveCatalog.getSegments(pk));
+            Collections.reverse(segments);
+
+            RecordMapper mapper = new RecordMapper(pk);
+            int found = 0;
+            for (ArchiveSegment segment : segments) {
+                if (found >= limit) {
+                    break;
+                }
+                // 기간/커서 바깥의 세그먼트는 파일을 읽지 않음
+                if (ArchiveSegmentFile.toEpochSecond(segment.getMinTransactionDate()) >= toSecond
+                        || ArchiveSegmentFile.toEpochSecond(segment.getMaxTransactionDate()) < fromSecond
+                        || (afterDate != null && segment.getMinTransactionDate().isAfter(afterDate))) {
+                    continue;
+                }
+
+                ArchiveSegmentFile.Rows rows = loadSegment(segment);
+                int start = afterDate == null
+                        ? rows.lowerBound(toSecond, Long.MIN_VALUE) - 1
+                        : Math.min(rows.lowerBound(ArchiveSegmentFile.toEpochSecond(afterDate), afterId),
+                                rows.lowerBound(toSecond, Long.MIN_VALUE)) - 1;
+                for (int i = start; i >= 0 && rows.dates[i] >= fromSecond && found < limit; i--) {
+                    String description = rows.descriptions[i];
+                    if (description != null && description.toLowerCase(Locale.ROOT).contains(needle)) {
+                        records.add(mapper.toRecord(rows, i));
+                        found++;
+                    }
+                }
+            }
+        }
+
+        // 회사별로 정렬된 결과를 합쳐 앞에서부터 limit건
+        records.sort(RecordOrder.DESCENDING);
+        return records.size() > limit ? records.subList(0, limit) : records;
+    }
+
+    /**
+     * 기간 [from, to) 안의 아카이브된 분류 결과를 거래일시 오름차순으로 순회 (세그먼트 단위로 읽음)
+     */
+    public Iterator<AccountingRecordDto> iterateRecords(Long companyPk, LocalDateTime from, LocalDateTime to) {
+        List<ArchiveSegment> segments = archiveCatalog.getSegments(companyPk).stream()
+                .filter(segment -> !segment.getMaxTransactionDate().isBefore(from)
+                        && segment.getMinTransactionDate().isBefore(to))
+                .toList();
+        RecordMapper mapper = new RecordMapper(companyPk);
+        long fromSecond = ArchiveSegmentFile.toEpochSecond(from);
+        long toSecond = ArchiveSegmentFile.toEpochSecond(to);
+
+        return new Iterator<>() {
+            private int segmentIndex;
+            private ArchiveSegmentFile.Rows rows;
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                while (rows == null || position >= rows.size() || rows.dates[position] >= toSecond) {
+                    if (segmentIndex >= segments.size()) {
+                        return false;
+                    }
+                    rows = loadSegment(segments.get(segmentIndex++));
+                    position = rows.lowerBound(fromSecond, Long.MIN_VALUE);
+                }
+                return true;
+            }
+
+            @Override
+            public AccountingRecordDto next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return mapper.toRecord(rows, position++);
+            }
+        };
+    }
+
+    /**
+     * 아카이브된 행의 (회사, 월, 계정과목)별 {건수, 입금 합계, 출금 합계} (월별 롤업 재계산용)
+     */
+    public Map<MonthlyRollupBatchRepository.Key, long[]> summarizeArchivedRows() {
+        Map<MonthlyRollupBatchRepository.Key, long[]> totals = new HashMap<>();
+        for (Long companyPk : archiveCatalog.getCompanyPks()) {
+            for (ArchiveSegment segment : archiveCatalog.getSegments(companyPk)) {
+                ArchiveSegmentFile.Rows rows = loadSegment(segment);
+                for (int i = 0; i < rows.size(); i++) {
+                    long[] total = totals.computeIfAbsent(new MonthlyRollupBatchRepository.Key(
+                            companyPk, segment.getPeriod(), rows.categoryPks[i]), key -> new long[3]);
+                    total[0]++;
+                    total[1] += rows.deposits[i];
+                    total[2] += rows.withdrawals[i];
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 회사의 세그먼트를 기간 순으로 하나씩 읽어 전달 (분석 스냅샷 적재용)
+     */
+    void forEachSegment(Long companyPk, Consumer<ArchiveSegmentFile.Rows> consumer) {
+        for (ArchiveSegment segment : archiveCatalog.getSegments(companyPk)) {
+            consumer.accept(loadSegment(segment));
+        }
+    }
+
+    private ArchiveSegmentFile.Rows loadSegment(ArchiveSegment segment) {
+        return segmentCache.get(segment.getFilePath(), path -> {
+            try {
+                return ArchiveSegmentFile.read(Paths.get(path));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read archive segment " + path, e);
+            }
+        });
+    }
+
+    /**
+     * 현재 규칙 트리 기준 계정과목 PK → {ID, 이름}
+     */
+    private Map<Long, String[]> categoryInfo() {
+        Map<Long, String[]> categories = new HashMap<>();
+        for (CompanyDto company : companyCatalog.getSnapshot().getCompanies()) {
+            for (CategoryDto category : company.getCategories()) {
+                categories.put(category.getId(), new String[]{category.getCategoryId(), category.getCategoryName()});
+            }
+        }
+        return categories;
+    }
+
+    /**
+     * 새 세그먼트 파일 경로 (같은 달을 같은 밀리초에 다시 아카이브해도 이전 파일과 겹치지 않도록)
+     */
+    private Path newSegmentPath(Long companyPk, YearMonth period) {
+        Path companyDirectory = directory.resolve("company-" + companyPk);
+        long stamp = System.currentTimeMillis();
+        Path file = companyDirectory.resolve(period + "-" + stamp + ".seg");
+        while (Files.exists(file)) {
+            file = companyDirectory.resolve(period + "-" + ++stamp + ".seg");
+        }
+        return file;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete archive file {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 세그먼트 행 → 조회 DTO (회사/계정과목 이름은 현재 규칙 트리 기준, 없어진 계정과목은 PK만 남으므로 null)
+     */
+    private final class RecordMapper {
+        private final String companyId;
+        private final String companyName;
+        private final Map<Long, CategoryDto> categories = new HashMap<>();
+
+        RecordMapper(Long companyPk) {
+            String id = null;
+            String name = null;
+            for (CompanyDto company : companyCatalog.getSnapshot().getCompanies()) {
+                if (company.getId().equals(companyPk)) {
+                    id = company.getCompanyId();
+                    name = company.getCompanyName();
+                    company.getCategories().forEach(category -> categories.put(category.getId(), category));
+                }
+            }
+            this.companyId = id;
+            this.companyName = name;
+        }
+
+        AccountingRecordDto toRecord(ArchiveSegmentFile.Rows rows, int i) {
+            CategoryDto category = categories.get(rows.categoryPks[i]);
+            return new AccountingRecordDto(rows.ids[i], rows.transactionDate(i), rows.descriptions[i],
+                    rows.deposits[i], rows.withdrawals[i], rows.balances[i], rows.branches[i],
+                    companyId, companyName,
+                    category != null ? category.getCategoryId() : null,
+                    category != null ? category.getCategoryName() : null,
+                    true);
+        }
+    }
+}
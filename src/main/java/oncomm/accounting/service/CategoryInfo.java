@@ -0,0 +1,19 @@
+package oncomm.accounting.service;
+
+/**
+ * 키워드 매칭 결과로 얻는 분류 대상
+ * - 규칙 스냅샷 생성 시 회사/계정과목의 PK까지 미리 해석해 두어 행마다 조회하지 않는다
+ */
+class CategoryInfo {
+    final String companyId;
+    final String categoryId;
+    final Long companyPk;
+    final Long categoryPk;
+
+    CategoryInfo(String companyId, String categoryId, Long companyPk, Long categoryPk) {
+        this.companyId = companyId;
+        this.categoryId = categoryId;
+        this.companyPk = companyPk;
+        this.categoryPk = categoryPk;
+    }
+}
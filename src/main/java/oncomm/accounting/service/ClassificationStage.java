@@ -0,0 +1,63 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * CPU 집약적인 분류 단계
+ * - 전용 ForkJoinPool에서 청크를 분할해 병렬로 키워드 매칭과 중복 판별용 지문 계산을 수행
+ * - 결과는 입력 순서를 유지하므로 저장 단계의 체크포인트와 어긋나지 않는다
+ */
+@Component
+@Slf4j
+public class ClassificationStage {
+
+    private final ForkJoinPool pool;
+    private final IngestionMetrics metrics;
+
+    public ClassificationStage(@Value("${accounting.classification.parallelism:0}") int parallelism,
+                               IngestionMetrics metrics) {
+        this.metrics = metrics;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("classification-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        log.info("Classification stage started with {} worker threads", threads);
+    }
+
+    /**
+     * 청크 분류를 비동기로 시작 (저장 단계와 겹쳐서 실행)
+     */
+    CompletableFuture<List<ClassifiedTransaction>> classifyAsync(List<BankTransactionDto> rows, RuleSnapshot rules) {
+        return CompletableFuture.supplyAsync(() -> metrics.timeStage("classify", () -> classify(rows, rules)), pool);
+    }
+
+    /**
+     * 청크 분류 (입력 순서 유지)
+     */
+    List<ClassifiedTransaction> classify(List<BankTransactionDto> rows, RuleSnapshot rules) {
+        return rows.parallelStream()
+                .map(dto -> new ClassifiedTransaction(dto, rules.classify(dto),
+                        TransactionFingerprint.of(dto)))
+                .toList();
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,18 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+
+/**
+ * 분류 단계를 거친 거래 내역 (미분류인 경우 categoryInfo는 null)
+ */
+class ClassifiedTransaction {
+    final BankTransactionDto transaction;
+    final CategoryInfo categoryInfo;
+    final String fingerprint;
+
+    ClassifiedTransaction(BankTransactionDto transaction, CategoryInfo categoryInfo, String fingerprint) {
+        this.transaction = transaction;
+        this.categoryInfo = categoryInfo;
+        this.fingerprint = fingerprint;
+    }
+}
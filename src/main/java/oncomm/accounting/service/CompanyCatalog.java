@@ -0,0 +1,54 @@
+package oncomm.accounting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 회사 목록 스냅샷 캐시
+ * - 처음 조회할 때 규칙 트리를 고정된 수의 쿼리로 읽어 스냅샷을 만들고, 규칙이 변경될 때까지 DB를 조회하지 않는다
+ * - 규칙 변경 트랜잭션이 커밋되면 스냅샷을 버린다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CompanyCatalog {
+
+    private final RuleService ruleService;
+
+    // 무효화 세대와 스냅샷을 한 값으로 묶어, 생성 중 규칙이 바뀌면 오래된 스냅샷이 설치되지 않도록 한 번의 CAS로 교체
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0, null));
+
+    public CompanyCatalogSnapshot getSnapshot() {
+        State current = state.get();
+        if (current.snapshot() != null) {
+            return current.snapshot();
+        }
+
+        CompanyCatalogSnapshot loaded = ruleService.loadCompanyCatalog();
+        state.compareAndSet(current, new State(current.generation(), loaded));
+        log.debug("Loaded company catalog snapshot (version {}, {} companies)",
+                loaded.getVersion(), loaded.getCompanies().size());
+        return loaded;
+    }
+
+    /**
+     * 스냅샷을 버려 다음 조회에서 DB를 다시 읽게 함 (DB를 직접 수정한 경우)
+     */
+    void invalidate() {
+        state.updateAndGet(current -> new State(current.generation() + 1, null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onRulesChanged(RulesChangedEvent event) {
+        invalidate();
+        log.debug("Company catalog snapshot invalidated by rule version {}", event.getVersion());
+    }
+
+    private record State(long generation, CompanyCatalogSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,34 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.CompanyDto;
+
+import java.util.List;
+
+/**
+ * 회사/계정과목/키워드 규칙 트리의 불변 스냅샷 (규칙 버전 태그 포함)
+ */
+public final class CompanyCatalogSnapshot {
+
+    private final String version;
+    private final List<CompanyDto> companies;
+
+    CompanyCatalogSnapshot(String version, List<CompanyDto> companies) {
+        this.version = version;
+        this.companies = List.copyOf(companies);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<CompanyDto> getCompanies() {
+        return companies;
+    }
+
+    /**
+     * HTTP ETag 값 (규칙 버전 기반)
+     */
+    public String getETag() {
+        return "\"rules-" + version + "\"";
+    }
+}
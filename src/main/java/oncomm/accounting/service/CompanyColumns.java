@@ -0,0 +1,267 @@
+package oncomm.accounting.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 회사 한 곳의 분류 완료 거래를 컬럼 단위 원시 배열로 보관하는 불변 뷰
+ * - 금액은 long[], 거래일시는 epoch 초(UTC), 계정과목/거래점은 사전 코드(int[])
+ * - 뷰는 생성 시점의 행 수까지만 읽으므로 이후 Builder가 같은 배열 뒤쪽에 행을 덧붙여도 영향을 받지 않는다
+ */
+final class CompanyColumns {
+
+    /**
+     * 집계 기준
+     */
+    enum GroupBy {
+        NONE,
+        CATEGORY,
+        BRANCH,
+        MONTH;
+
+        static GroupBy from(String value) {
+            try {
+                return GroupBy.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported groupBy: " + value);
+            }
+        }
+    }
+
+    final int size;
+    final long[] dates;
+    // year * 12 + (month - 1)
+    final int[] months;
+    final long[] deposits;
+    final long[] withdrawals;
+    final int[] categories;
+    final int[] branches;
+
+    // 사전 (코드 → 값)
+    final int categoryCount;
+    final long[] categoryPks;
+    final int branchCount;
+    final String[] branchNames;
+
+    final int minMonth;
+    final int maxMonth;
+
+    private CompanyColumns(Builder builder) {
+        this.size = builder.size;
+        this.dates = builder.dates;
+        this.months = builder.months;
+        this.deposits = builder.deposits;
+        this.withdrawals = builder.withdrawals;
+        this.categories = builder.categories;
+        this.branches = builder.branches;
+        this.categoryCount = builder.categoryCount;
+        this.categoryPks = builder.categoryPks;
+        this.branchCount = builder.branchCount;
+        this.branchNames = builder.branchNames;
+        this.minMonth = builder.minMonth;
+        this.maxMonth = builder.maxMonth;
+    }
+
+    int categoryCode(long categoryPk) {
+        for (int i = 0; i < categoryCount; i++) {
+            if (categoryPks[i] == categoryPk) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int branchCode(String branch) {
+        for (int i = 0; i < branchCount; i++) {
+            if (branchNames[i].equals(branch)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 필터 + 그룹별 건수/입금 합계/출금 합계
+     * @param fromSecond 거래일시 하한 (포함, epoch 초)
+     * @param toSecond   거래일시 상한 (제외, epoch 초)
+     * @param category   계정과목 코드 (-1이면 전체)
+     * @param branch     거래점 코드 (-1이면 전체)
+     */
+    Aggregation aggregate(long fromSecond, long toSecond, int category, int branch, GroupBy groupBy) {
+        int[] keys;
+        int keyBase = 0;
+        int groupCount;
+        switch (groupBy) {
+            case CATEGORY -> {
+                keys = categories;
+                groupCount = categoryCount;
+            }
+            case BRANCH -> {
+                keys = branches;
+                groupCount = branchCount;
+            }
+            case MONTH -> {
+                keys = months;
+                keyBase = minMonth;
+                groupCount = size == 0 ? 0 : maxMonth - minMonth + 1;
+            }
+            default -> {
+                keys = null;
+                groupCount = 1;
+            }
+        }
+
+        Aggregation result = new Aggregation(groupBy, keyBase, groupCount);
+        long[] counts = result.counts;
+        long[] depositSums = result.depositSums;
+        long[] withdrawalSums = result.withdrawalSums;
+        long[] dates = this.dates;
+        long[] deposits = this.deposits;
+        long[] withdrawals = this.withdrawals;
+        int[] categories = this.categories;
+        int[] branches = this.branches;
+        int size = this.size;
+
+        // 필터가 없는 경우가 대부분이므로 조건 분기를 루프 밖으로 뺀다
+        if (category < 0 && branch < 0) {
+            for (int i = 0; i < size; i++) {
+                long date = dates[i];
+                if (date >= fromSecond && date < toSecond) {
+                    int group = keys == null ? 0 : keys[i] - keyBase;
+                    counts[group]++;
+                    depositSums[group] += deposits[i];
+                    withdrawalSums[group] += withdrawals[i];
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                long date = dates[i];
+                if (date >= fromSecond && date < toSecond
+                        && (category < 0 || categories[i] == category)
+                        && (branch < 0 || branches[i] == branch)) {
+                    int group = keys == null ? 0 : keys[i] - keyBase;
+                    counts[group]++;
+                    depositSums[group] += deposits[i];
+                    withdrawalSums[group] += withdrawals[i];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 그룹 인덱스별 집계 결과 (MONTH는 keyBase + 인덱스가 year * 12 + month - 1)
+     */
+    static final class Aggregation {
+        final GroupBy groupBy;
+        final int keyBase;
+        final long[] counts;
+        final long[] depositSums;
+        final long[] withdrawalSums;
+
+        Aggregation(GroupBy groupBy, int keyBase, int groupCount) {
+            this.groupBy = groupBy;
+            this.keyBase = keyBase;
+            this.counts = new long[groupCount];
+            this.depositSums = new long[groupCount];
+            this.withdrawalSums = new long[groupCount];
+        }
+    }
+
+    /**
+     * 행 추가용 빌더 (한 스레드에서만 사용, build()로 얻은 뷰는 여러 스레드가 공유)
+     */
+    static final class Builder {
+        private int size;
+        private long[] dates = new long[1024];
+        private int[] months = new int[1024];
+        private long[] deposits = new long[1024];
+        private long[] withdrawals = new long[1024];
+        private int[] categories = new int[1024];
+        private int[] branches = new int[1024];
+
+        private int categoryCount;
+        private long[] categoryPks = new long[16];
+        private final Map<Long, Integer> categoryCodes = new HashMap<>();
+        private int branchCount;
+        private String[] branchNames = new String[16];
+        private final Map<String, Integer> branchCodes = new HashMap<>();
+
+        private int minMonth = Integer.MAX_VALUE;
+        private int maxMonth = Integer.MIN_VALUE;
+
+        /**
+         * @param epochSecond 거래일시 (UTC epoch 초)
+         * @param branch      거래점 (null이면 빈 문자열로 취급)
+         */
+        void append(long epochSecond, long deposit, long withdrawal, String branch, long categoryPk) {
+            if (size == dates.length) {
+                grow(size * 2);
+            }
+            int month = month(epochSecond);
+            dates[size] = epochSecond;
+            months[size] = month;
+            deposits[size] = deposit;
+            withdrawals[size] = withdrawal;
+            categories[size] = categoryCode(categoryPk);
+            branches[size] = branchCode(branch == null ? "" : branch);
+            minMonth = Math.min(minMonth, month);
+            maxMonth = Math.max(maxMonth, month);
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        CompanyColumns build() {
+            return new CompanyColumns(this);
+        }
+
+        private int categoryCode(long categoryPk) {
+            Integer code = categoryCodes.get(categoryPk);
+            if (code == null) {
+                if (categoryCount == categoryPks.length) {
+                    categoryPks = Arrays.copyOf(categoryPks, categoryCount * 2);
+                }
+                code = categoryCount;
+                categoryPks[categoryCount++] = categoryPk;
+                categoryCodes.put(categoryPk, code);
+            }
+            return code;
+        }
+
+        private int branchCode(String branch) {
+            Integer code = branchCodes.get(branch);
+            if (code == null) {
+                if (branchCount == branchNames.length) {
+                    branchNames = Arrays.copyOf(branchNames, branchCount * 2);
+                }
+                code = branchCount;
+                branchNames[branchCount++] = branch;
+                branchCodes.put(branch, code);
+            }
+            return code;
+        }
+
+        // 배열을 새로 만들어 교체하므로 이전 뷰는 기존 배열을 계속 읽는다
+        private void grow(int capacity) {
+            dates = Arrays.copyOf(dates, capacity);
+            months = Arrays.copyOf(months, capacity);
+            deposits = Arrays.copyOf(deposits, capacity);
+            withdrawals = Arrays.copyOf(withdrawals, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            branches = Arrays.copyOf(branches, capacity);
+        }
+    }
+
+    /**
+     * epoch 초 → year * 12 + (month - 1) (UTC 기준, 저장된 거래일시와 같은 기준)
+     */
+    static int month(long epochSecond) {
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochSecond, 86_400L));
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+}
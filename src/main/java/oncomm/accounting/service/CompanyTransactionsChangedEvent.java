@@ -0,0 +1,15 @@
+package oncomm.accounting.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 수집(행 추가) 이외의 경로로 회사의 분류 완료 거래가 바뀌었음을 알리는 이벤트 (재분류, 아카이브)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CompanyTransactionsChangedEvent {
+    private final Set<Long> companyPks;
+}
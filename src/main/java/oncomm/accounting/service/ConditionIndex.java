@@ -0,0 +1,138 @@
+package oncomm.accounting.service;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 키워드 없이 조건만으로 분류하는 규칙의 평가 계획 (불변)
+ * - 거래 방향으로 먼저 나누고, 방향별로 금액 구간 경계를 정렬한 배열에서 이진 탐색해 해당 구간의 규칙만 후보로 삼는다
+ * - 구간별 후보는 선언 순서로 정렬되어 있어 나머지 조건(요일/시각/거래점)을 처음 만족하는 규칙에서 멈춘다
+ */
+final class ConditionIndex {
+
+    private static final ConditionIndex EMPTY = new ConditionIndex(new CategoryInfo[0], new RuleCondition[0], null);
+
+    private final CategoryInfo[] values;
+    private final RuleCondition[] conditions;
+    // 거래 방향(NONE, DEPOSIT, WITHDRAWAL)별 금액 구간
+    private final Partition[] partitions;
+
+    private ConditionIndex(CategoryInfo[] values, RuleCondition[] conditions, Partition[] partitions) {
+        this.values = values;
+        this.conditions = conditions;
+        this.partitions = partitions;
+    }
+
+    /**
+     * @param values     규칙 선언 순서의 분류 대상
+     * @param conditions values와 같은 순서의 조건
+     */
+    static ConditionIndex build(List<CategoryInfo> values, List<RuleCondition> conditions) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+
+        RuleCondition[] compiled = conditions.toArray(new RuleCondition[0]);
+        Partition[] partitions = new Partition[3];
+        partitions[RuleCondition.NONE] = Partition.build(compiled, RuleCondition.NONE);
+        partitions[RuleCondition.DEPOSIT] = Partition.build(compiled, RuleCondition.DEPOSIT);
+        partitions[RuleCondition.WITHDRAWAL] = Partition.build(compiled, RuleCondition.WITHDRAWAL);
+        return new ConditionIndex(values.toArray(new CategoryInfo[0]), compiled, partitions);
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    /**
+     * 조건을 만족하는 첫 규칙 (없으면 null)
+     */
+    CategoryInfo match(RuleCondition.Input input) {
+        if (values.length == 0) {
+            return null;
+        }
+
+        for (int rule : partitions[input.direction].candidates(input.amount)) {
+            if (conditions[rule].matchesRest(input)) {
+                return values[rule];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 한 거래 방향의 금액 구간 인덱스
+     * - boundaries는 규칙의 구간 시작과 (끝 + 1)을 정렬한 값이며, 경계 사이 구간마다 그 구간 전체를 포함하는 규칙 목록을 둔다
+     * - 시작/끝 이벤트를 정렬해 한 번 훑어 만들며 (규칙 수 × 경계 수가 아닌 이벤트 수 + 후보 합계), 내용이 같은 후보 목록은 배열 하나를 공유
+     */
+    private static final class Partition {
+        private final long[] boundaries;
+        private final int[][] buckets;
+
+        private Partition(long[] boundaries, int[][] buckets) {
+            this.boundaries = boundaries;
+            this.buckets = buckets;
+        }
+
+        static Partition build(RuleCondition[] conditions, int direction) {
+            // 구간 시작/끝 이벤트를 경계값 순으로 정렬 (시작은 minAmount, 끝은 maxAmount + 1에서 규칙이 빠짐)
+            List<long[]> starts = new ArrayList<>();
+            List<long[]> ends = new ArrayList<>();
+            TreeSet<Integer> active = new TreeSet<>();
+            for (int i = 0; i < conditions.length; i++) {
+                RuleCondition condition = conditions[i];
+                if (condition.direction != RuleCondition.ANY && condition.direction != direction) {
+                    continue;
+                }
+                if (condition.minAmount == Long.MIN_VALUE) {
+                    active.add(i);
+                } else {
+                    starts.add(new long[]{condition.minAmount, i});
+                }
+                if (condition.maxAmount != Long.MAX_VALUE) {
+                    ends.add(new long[]{condition.maxAmount + 1, i});
+                }
+            }
+            starts.sort(Comparator.comparingLong(event -> event[0]));
+            ends.sort(Comparator.comparingLong(event -> event[0]));
+
+            // 경계를 한 번 훑으며 활성 규칙 집합을 갱신하고, 같은 후보 목록은 한 배열로 공유
+            Map<IntBuffer, int[]> shared = new HashMap<>();
+            List<Long> boundaries = new ArrayList<>();
+            List<int[]> buckets = new ArrayList<>();
+            buckets.add(intern(shared, active));
+            int nextStart = 0;
+            int nextEnd = 0;
+            while (nextStart < starts.size() || nextEnd < ends.size()) {
+                long boundary = Math.min(
+                        nextStart < starts.size() ? starts.get(nextStart)[0] : Long.MAX_VALUE,
+                        nextEnd < ends.size() ? ends.get(nextEnd)[0] : Long.MAX_VALUE);
+                while (nextEnd < ends.size() && ends.get(nextEnd)[0] == boundary) {
+                    active.remove((int) ends.get(nextEnd++)[1]);
+                }
+                while (nextStart < starts.size() && starts.get(nextStart)[0] == boundary) {
+                    active.add((int) starts.get(nextStart++)[1]);
+                }
+                boundaries.add(boundary);
+                buckets.add(intern(shared, active));
+            }
+            return new Partition(boundaries.stream().mapToLong(Long::longValue).toArray(), buckets.toArray(new int[0][]));
+        }
+
+        private static int[] intern(Map<IntBuffer, int[]> shared, TreeSet<Integer> active) {
+            int[] rules = active.stream().mapToInt(Integer::intValue).toArray();
+            return shared.computeIfAbsent(IntBuffer.wrap(rules), key -> rules);
+        }
+
+        int[] candidates(long amount) {
+            int index = Arrays.binarySearch(boundaries, amount);
+            return buckets[index >= 0 ? index + 1 : -index - 1];
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 은행 거래 내역 CSV 전용 파서
+ * - 문자 버퍼를 직접 순회하며 헤더에서 컬럼 위치를 한 번만 찾는다
+ * - 거래일시(yyyy-MM-dd HH:mm:ss)와 금액은 중간 문자열 없이 버퍼에서 바로 숫자로 변환한다
+ * - 따옴표 필드(필드 내 쉼표/줄바꿈/"" 이스케이프), UTF-8 BOM, 천 단위 쉼표가 들어간 금액을 처리한다
+ * - 적요/거래점 문자열은 Commons CSV 엔진과 같은 값을 만들도록 공백을 자르지 않는다
+ */
+final class FastTransactionCsvReader implements TransactionReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String DATE_COLUMN = "거래일시";
+    private static final String DESCRIPTION_COLUMN = "적요";
+    private static final String DEPOSIT_COLUMN = "입금액";
+    private static final String WITHDRAWAL_COLUMN = "출금액";
+    private static final String BALANCE_COLUMN = "거래후잔액";
+    private static final String BRANCH_COLUMN = "거래점";
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    // 현재 행: 필드 값을 이어 붙인 버퍼와 필드별 [시작, 끝) 위치
+    private char[] fieldChars = new char[1024];
+    private int fieldLength;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private int fieldCount;
+
+    private long lineNumber = 1;
+    private long recordLineNumber;
+    private boolean recordPending;
+
+    private final int dateIndex;
+    private final int descriptionIndex;
+    private final int depositIndex;
+    private final int withdrawalIndex;
+    private final int balanceIndex;
+    private final int branchIndex;
+
+    FastTransactionCsvReader(InputStream inputStream) throws IOException {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+
+        fill();
+        if (limit > 0 && buffer[0] == '\uFEFF') {
+            position = 1;
+        }
+
+        // 헤더가 없으면 빈 파일로 취급
+        if (!readRecord()) {
+            dateIndex = descriptionIndex = depositIndex = withdrawalIndex = balanceIndex = branchIndex = -1;
+            return;
+        }
+        dateIndex = columnIndex(DATE_COLUMN);
+        descriptionIndex = columnIndex(DESCRIPTION_COLUMN);
+        depositIndex = columnIndex(DEPOSIT_COLUMN);
+        withdrawalIndex = columnIndex(WITHDRAWAL_COLUMN);
+        balanceIndex = columnIndex(BALANCE_COLUMN);
+        branchIndex = columnIndex(BRANCH_COLUMN);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!recordPending) {
+            try {
+                recordPending = dateIndex >= 0 && readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return recordPending;
+    }
+
+    @Override
+    public BankTransactionDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        recordPending = false;
+
+        try {
+            BankTransactionDto dto = new BankTransactionDto();
+            dto.setTransactionDate(parseDateTime(dateIndex));
+            dto.setDescription(string(descriptionIndex));
+            dto.setDepositAmount(parseAmount(depositIndex));
+            dto.setWithdrawalAmount(parseAmount(withdrawalIndex));
+            dto.setBalanceAfter(parseAmount(balanceIndex));
+            dto.setBranch(string(branchIndex));
+            return dto;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(
+                    "Invalid transaction row at line " + recordLineNumber + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int skip(int rows) {
+        int skipped = 0;
+        while (skipped < rows && hasNext()) {
+            recordPending = false;
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ===== 레코드 분리 =====
+
+    /**
+     * 다음 레코드를 필드 버퍼로 읽음 (빈 줄은 건너뜀)
+     * @return 파일 끝이면 false
+     */
+    private boolean readRecord() throws IOException {
+        int c;
+        while (true) {
+            c = read();
+            if (c == -1) {
+                return false;
+            }
+            if (c != '\r' && c != '\n') {
+                break;
+            }
+            consumeLineBreak(c);
+        }
+
+        recordLineNumber = lineNumber;
+        fieldLength = 0;
+        fieldCount = 0;
+        startField();
+
+        while (true) {
+            if (c == '"' && fieldLength == fieldStarts[fieldCount]) {
+                c = readQuoted();
+            }
+
+            if (c == ',') {
+                endField();
+                startField();
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                endField();
+                if (c != -1) {
+                    consumeLineBreak(c);
+                }
+                return true;
+            } else {
+                append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 따옴표 필드 본문 읽기 ("" 는 따옴표 한 개)
+     * @return 닫는 따옴표 다음 문자
+     */
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new IllegalArgumentException(
+                        "Invalid transaction row at line " + recordLineNumber + ": unterminated quoted field");
+            }
+            if (c == '"') {
+                int next = read();
+                if (next != '"') {
+                    if (next != ',' && next != '\n' && next != '\r' && next != -1) {
+                        throw new IllegalArgumentException("Invalid transaction row at line " + recordLineNumber
+                                + ": unexpected character after quoted field");
+                    }
+                    return next;
+                }
+            } else if (c == '\n') {
+                lineNumber++;
+            }
+            append((char) c);
+        }
+    }
+
+    private void consumeLineBreak(int c) throws IOException {
+        if (c == '\r' && peek() == '\n') {
+            position++;
+        }
+        lineNumber++;
+    }
+
+    private void startField() {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = fieldLength;
+    }
+
+    private void endField() {
+        fieldEnds[fieldCount++] = fieldLength;
+    }
+
+    private void append(char c) {
+        if (fieldLength == fieldChars.length) {
+            fieldChars = Arrays.copyOf(fieldChars, fieldLength * 2);
+        }
+        fieldChars[fieldLength++] = c;
+    }
+
+    private int read() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    // ===== 필드 변환 =====
+
+    private int columnIndex(String column) {
+        for (int i = 0; i < fieldCount; i++) {
+            int start = fieldStarts[i];
+            int end = fieldEnds[i];
+            // 헤더 이름 앞뒤 공백 허용
+            while (start < end && fieldChars[start] == ' ') {
+                start++;
+            }
+            while (end > start && fieldChars[end - 1] == ' ') {
+                end--;
+            }
+            if (end - start == column.length() && column.contentEquals(CharBuffer.wrap(fieldChars, start, end - start))) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Missing CSV column: " + column);
+    }
+
+    private void checkField(int index) {
+        if (index >= fieldCount) {
+            throw new IllegalArgumentException("expected at least " + (index + 1) + " values but found " + fieldCount);
+        }
+    }
+
+    private String string(int index) {
+        checkField(index);
+        return new String(fieldChars, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+    }
+
+    /**
+     * yyyy-MM-dd HH:mm:ss 를 문자 단위로 직접 변환
+     */
+    private LocalDateTime parseDateTime(int index) {
+        checkField(index);
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        while (start < end && fieldChars[start] == ' ') {
+            start++;
+        }
+        while (end > start && fieldChars[end - 1] == ' ') {
+            end--;
+        }
+
+        char[] c = fieldChars;
+        if (end - start != 19 || c[start + 4] != '-' || c[start + 7] != '-' || c[start + 10] != ' '
+                || c[start + 13] != ':' || c[start + 16] != ':') {
+            throw new IllegalArgumentException("Invalid date-time: " + new String(c, start, end - start));
+        }
+
+        try {
+            return LocalDateTime.of(digits(start, 4), digits(start + 5, 2), digits(start + 8, 2),
+                    digits(start + 11, 2), digits(start + 14, 2), digits(start + 17, 2));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid date-time: " + new String(c, start, end - start), e);
+        }
+    }
+
+    private int digits(int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = fieldChars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid digit in date-time field");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 금액 변환 (빈 값은 0, 앞뒤 공백과 천 단위 쉼표 허용)
+     */
+    private long parseAmount(int index) {
+        checkField(index);
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        while (start < end && Character.isWhitespace(fieldChars[start])) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(fieldChars[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return 0L;
+        }
+
+        boolean negative = false;
+        int i = start;
+        if (fieldChars[i] == '-' || fieldChars[i] == '+') {
+            negative = fieldChars[i] == '-';
+            i++;
+        }
+
+        long value = 0;
+        int digitCount = 0;
+        for (; i < end; i++) {
+            char c = fieldChars[i];
+            if (c == ',') {
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("For input string: \"" + new String(fieldChars, start, end - start) + "\"");
+            }
+            value = value * 10 + digit;
+            digitCount++;
+        }
+        if (digitCount == 0) {
+            throw new NumberFormatException("For input string: \"" + new String(fieldChars, start, end - start) + "\"");
+        }
+        return negative ? -value : value;
+    }
+}
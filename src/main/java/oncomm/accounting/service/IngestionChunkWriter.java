@@ -0,0 +1,198 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import oncomm.accounting.entity.BankTransaction;
+import oncomm.accounting.entity.Category;
+import oncomm.accounting.entity.Company;
+import oncomm.accounting.repository.ArchiveBatchRepository;
+import oncomm.accounting.repository.BankTransactionBatchRepository;
+import oncomm.accounting.repository.BankTransactionRepository;
+import oncomm.accounting.repository.CompanyStatisticsBatchRepository;
+import oncomm.accounting.repository.IngestionRunRepository;
+import oncomm.accounting.repository.MonthlyRollupBatchRepository;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 분류된 거래 내역을 청크 단위로 저장
+ * - 청크마다 독립된 트랜잭션으로 커밋하고 영속성 컨텍스트를 비운다
+ * - 기본적으로 청크 전체를 하나의 JDBC 배치 INSERT로 전송한다
+ * - 같은 트랜잭션에서 회사별 통계 카운터와 월별 롤업을 증분 갱신
+ * - 같은 트랜잭션에서 처리 이력의 체크포인트를 전진시켜 실패 시 마지막 커밋 지점부터 재개할 수 있게 한다
+ * - 커밋 이후 분류 완료 행을 분석 스냅샷에 덧붙인다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngestionChunkWriter {
+
+    private final BankTransactionRepository bankTransactionRepository;
+    private final BankTransactionBatchRepository bankTransactionBatchRepository;
+    private final CompanyStatisticsBatchRepository companyStatisticsBatchRepository;
+    private final MonthlyRollupBatchRepository monthlyRollupBatchRepository;
+    private final IngestionRunRepository ingestionRunRepository;
+    private final ArchiveBatchRepository archiveBatchRepository;
+    private final ArchiveCatalog archiveCatalog;
+    private final AnalyticsService analyticsService;
+    private final EntityManager entityManager;
+    private final IngestionMetrics metrics;
+
+    // 저장 방식: jdbc(JDBC 배치 INSERT, 기본) / jpa(엔티티 단건 저장)
+    @Value("${accounting.ingestion.writer:jdbc}")
+    private String writerType;
+
+    /**
+     * 청크 저장 (지문 기반 중복 제거 → 저장 → 체크포인트 갱신)
+     * @return 청크 내 분류 완료 건수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int writeChunk(Long ingestionRunId, List<ClassifiedTransaction> chunk) {
+        int classifiedCount = 0;
+        // 지표용 회사별 행 수 (커밋 이후 반영)
+        Map<String, Long> parsedRows = new HashMap<>();
+        Map<String, Long> duplicateRows = new HashMap<>();
+        Map<String, Long> classifiedRows = new HashMap<>();
+        Map<String, Long> unclassifiedRows = new HashMap<>();
+
+        // 청크 내 중복 제거 후 기존 지문을 한 번의 IN 조회로 확인
+        Timer.Sample dedupSample = metrics.startStage();
+        Map<String, ClassifiedTransaction> candidates = new LinkedHashMap<>();
+        for (ClassifiedTransaction classified : chunk) {
+            parsedRows.merge(companyTag(classified), 1L, Long::sum);
+            if (candidates.putIfAbsent(classified.fingerprint, classified) != null) {
+                duplicateRows.merge(companyTag(classified), 1L, Long::sum);
+            }
+        }
+        Set<String> existing = new HashSet<>(bankTransactionRepository.findExistingFingerprints(candidates.keySet()));
+
+        // 아카이브된 달의 거래만 아카이브 지문을 추가로 확인 (아카이브가 없는 달은 추가 조회 없음)
+        List<String> archivedPeriodFingerprints = new ArrayList<>();
+        for (Map.Entry<String, ClassifiedTransaction> entry : candidates.entrySet()) {
+            if (!existing.contains(entry.getKey())
+                    && archiveCatalog.isArchivedPeriod(YearMonth.from(entry.getValue().transaction.getTransactionDate()))) {
+                archivedPeriodFingerprints.add(entry.getKey());
+            }
+        }
+        existing.addAll(archiveBatchRepository.findArchivedFingerprints(archivedPeriodFingerprints));
+        metrics.stopStage(dedupSample, "dedup");
+
+        List<BankTransaction> transactions = new ArrayList<>(candidates.size());
+        List<ClassifiedTransaction> classifiedInserts = new ArrayList<>(candidates.size());
+        List<BankTransaction> classifiedEntities = new ArrayList<>(candidates.size());
+        // 회사 PK → {전체 증감, 분류 완료 증감}
+        Map<Long, long[]> statisticsDeltas = new HashMap<>();
+        // (회사, 월, 계정과목) → {건수, 입금 합계, 출금 합계}
+        Map<MonthlyRollupBatchRepository.Key, long[]> rollupDeltas = new HashMap<>();
+
+        for (Map.Entry<String, ClassifiedTransaction> entry : candidates.entrySet()) {
+            ClassifiedTransaction classified = entry.getValue();
+
+            // 중복 거래 확인
+            if (existing.contains(entry.getKey())) {
+                duplicateRows.merge(companyTag(classified), 1L, Long::sum);
+                continue;
+            }
+
+            BankTransaction transaction = toEntity(classified.transaction, entry.getKey());
+
+            // 규칙 스냅샷에서 해석된 PK로 프록시 참조만 연결 (행마다 조회하지 않음)
+            CategoryInfo categoryInfo = classified.categoryInfo;
+            if (categoryInfo != null) {
+                transaction.setCompany(entityManager.getReference(Company.class, categoryInfo.companyPk));
+                transaction.setCategory(entityManager.getReference(Category.class, categoryInfo.categoryPk));
+                transaction.setIsClassified(true);
+                classifiedCount++;
+                classifiedRows.merge(categoryInfo.companyId, 1L, Long::sum);
+                classifiedInserts.add(classified);
+                classifiedEntities.add(transaction);
+
+                long[] delta = statisticsDeltas.computeIfAbsent(categoryInfo.companyPk, pk -> new long[2]);
+                delta[0]++;
+                delta[1]++;
+
+                long[] rollup = rollupDeltas.computeIfAbsent(new MonthlyRollupBatchRepository.Key(categoryInfo.companyPk,
+                        YearMonth.from(transaction.getTransactionDate()).toString(), categoryInfo.categoryPk), key -> new long[3]);
+                rollup[0]++;
+                rollup[1] += transaction.getDepositAmount();
+                rollup[2] += transaction.getWithdrawalAmount();
+            } else {
+                unclassifiedRows.merge(IngestionMetrics.NO_COMPANY, 1L, Long::sum);
+            }
+
+            transactions.add(transaction);
+        }
+
+        Timer.Sample insertSample = metrics.startStage();
+        if ("jpa".equalsIgnoreCase(writerType)) {
+            bankTransactionRepository.saveAll(transactions);
+        } else {
+            bankTransactionBatchRepository.batchInsert(transactions);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        companyStatisticsBatchRepository.increment(statisticsDeltas);
+        monthlyRollupBatchRepository.increment(rollupDeltas);
+
+        ingestionRunRepository.advanceCheckpoint(ingestionRunId, chunk.size(), classifiedCount);
+        // 저장 후 설정된 ID와 함께 전달
+        List<AnalyticsRow> analyticsRows = new ArrayList<>(classifiedInserts.size());
+        for (int i = 0; i < classifiedInserts.size(); i++) {
+            analyticsRows.add(AnalyticsRow.of(classifiedEntities.get(i), classifiedInserts.get(i).categoryInfo));
+        }
+        analyticsService.appendAfterCommit(analyticsRows);
+        metrics.stopStage(insertSample, "insert");
+        log.debug("Committed chunk of {} rows ({} classified)", chunk.size(), classifiedCount);
+
+        // 롤백된 청크는 집계하지 않도록 커밋 이후 반영
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                metrics.countRows("parsed", parsedRows);
+                metrics.countRows("duplicate", duplicateRows);
+                metrics.countRows("classified", classifiedRows);
+                metrics.countRows("unclassified", unclassifiedRows);
+            }
+        });
+
+        return classifiedCount;
+    }
+
+    private static String companyTag(ClassifiedTransaction classified) {
+        return classified.categoryInfo != null ? classified.categoryInfo.companyId : IngestionMetrics.NO_COMPANY;
+    }
+
+    /**
+     * DTO → 엔티티 변환 (분류 정보 제외)
+     */
+    static BankTransaction toEntity(BankTransactionDto dto, String fingerprint) {
+        BankTransaction transaction = new BankTransaction(
+                dto.getTransactionDate(),
+                dto.getDescription(),
+                dto.getDepositAmount(),
+                dto.getWithdrawalAmount(),
+                dto.getBalanceAfter(),
+                dto.getBranch()
+        );
+        transaction.setFingerprint(fingerprint);
+        return transaction;
+    }
+}
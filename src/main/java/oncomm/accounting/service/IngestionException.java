@@ -0,0 +1,21 @@
+package oncomm.accounting.service;
+
+import lombok.Getter;
+
+/**
+ * 거래 내역 처리 중 실패 (이미 커밋된 청크는 유지되며 runId로 재개 가능)
+ */
+@Getter
+public class IngestionException extends RuntimeException {
+
+    private final String runId;
+    private final int processedRows;
+    private final int classifiedRows;
+
+    public IngestionException(String message, String runId, int processedRows, int classifiedRows, Throwable cause) {
+        super(message, cause);
+        this.runId = runId;
+        this.processedRows = processedRows;
+        this.classifiedRows = classifiedRows;
+    }
+}
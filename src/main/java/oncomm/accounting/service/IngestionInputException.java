@@ -0,0 +1,22 @@
+package oncomm.accounting.service;
+
+import lombok.Getter;
+
+/**
+ * 거래 내역 파일 내용 오류로 처리 중단 (같은 파일로 재개해도 같은 지점에서 실패하므로 400으로 응답)
+ * - 오류 이전에 커밋된 청크는 유지되며, 처리 이력은 runId로 조회
+ */
+@Getter
+public class IngestionInputException extends IllegalArgumentException {
+
+    private final String runId;
+    private final int processedRows;
+    private final int classifiedRows;
+
+    public IngestionInputException(String message, String runId, int processedRows, int classifiedRows, Throwable cause) {
+        super(message, cause);
+        this.runId = runId;
+        this.processedRows = processedRows;
+        this.classifiedRows = classifiedRows;
+    }
+}
@@ -0,0 +1,27 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.ProcessingResponseDto;
+
+import java.time.Instant;
+
+/**
+ * 비동기 거래 내역 처리 작업
+ */
+class IngestionJob {
+
+    final String jobId;
+    final Instant submittedAt = Instant.now();
+    final IngestionProgress progress = new IngestionProgress();
+    volatile ProcessingResponseDto result;
+
+    IngestionJob(String jobId) {
+        this.jobId = jobId;
+    }
+
+    boolean isFinished() {
+        IngestionProgress.Stage stage = progress.getStage();
+        return stage == IngestionProgress.Stage.COMPLETED
+                || stage == IngestionProgress.Stage.FAILED
+                || stage == IngestionProgress.Stage.CANCELLED;
+    }
+}
@@ -0,0 +1,203 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.IngestionJobDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 비동기 거래 내역 처리 작업 관리
+ * - 업로드 파일을 임시 파일로 옮긴 뒤 가상 스레드에서 처리하고 즉시 작업 ID를 반환
+ * - 동시에 실행되는 작업 수와 대기 중인 작업 수를 제한
+ * - 작업 상태는 메모리에 보관하며 종료 후 일정 시간이 지나면 정리
+ */
+@Service
+@Slf4j
+public class IngestionJobService {
+
+    private final AccountingService accountingService;
+    private final Map<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ingestion-job-", 0).factory());
+    private final Semaphore runningPermits;
+    // 대기 + 실행 중인 작업 슬롯 (등록 시 확보, 작업 종료 시 반납)
+    private final Semaphore pendingPermits;
+    private final Duration retention;
+
+    public IngestionJobService(AccountingService accountingService,
+                               @Value("${accounting.jobs.max-concurrent:2}") int maxConcurrentJobs,
+                               @Value("${accounting.jobs.max-pending:20}") int maxPendingJobs,
+                               @Value("${accounting.jobs.retention:PT1H}") Duration retention,
+                               MeterRegistry meterRegistry) {
+        this.accountingService = accountingService;
+        this.runningPermits = new Semaphore(maxConcurrentJobs);
+        this.pendingPermits = new Semaphore(maxPendingJobs);
+        this.retention = retention;
+
+        Gauge.builder("accounting.jobs.active", this, IngestionJobService::getActiveJobCount)
+                .description("Ingestion jobs queued or running")
+                .register(meterRegistry);
+        Gauge.builder("accounting.jobs.running", runningPermits, permits -> maxConcurrentJobs - permits.availablePermits())
+                .description("Ingestion jobs currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 등록 (업로드 파일을 임시 파일로 저장한 뒤 백그라운드에서 처리)
+     */
+    public IngestionJobDto submit(MultipartFile transactionsFile, MultipartFile rulesFile, String companyId,
+                                  String resumeRunId, String idempotencyKey) throws IOException {
+        purgeExpiredJobs();
+
+        // 확인과 등록 사이에 다른 요청이 끼어들지 않도록 슬롯을 먼저 확보
+        if (!pendingPermits.tryAcquire()) {
+            throw new IllegalStateException("Too many ingestion jobs in progress: " + getActiveJobCount());
+        }
+
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString());
+        SpooledUpload transactions = null;
+        SpooledUpload rules = null;
+        try {
+            transactions = SpooledUpload.spool(transactionsFile);
+            rules = SpooledUpload.spool(rulesFile);
+            start(job, transactions, rules, companyId, resumeRunId, idempotencyKey);
+        } catch (Exception e) {
+            // 작업이 시작되지 않았으면 슬롯을 반납하고 임시 파일 삭제
+            jobs.remove(job.jobId);
+            pendingPermits.release();
+            closeQuietly(rules, e);
+            closeQuietly(transactions, e);
+            throw e;
+        }
+
+        log.info("Submitted ingestion job {} for {}", job.jobId, transactions.getOriginalFilename());
+        return toDto(job);
+    }
+
+    private void start(IngestionJob job, SpooledUpload transactions, SpooledUpload rules, String companyId,
+                       String resumeRunId, String idempotencyKey) {
+        jobs.put(job.jobId, job);
+        executor.execute(() -> run(job, transactions, rules, companyId, resumeRunId, idempotencyKey));
+    }
+
+    private static void closeQuietly(SpooledUpload upload, Exception failure) {
+        if (upload == null) {
+            return;
+        }
+        try {
+            upload.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<IngestionJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(this::toDto);
+    }
+
+    /**
+     * 작업 취소 요청 (대기 중이면 시작하지 않고, 실행 중이면 다음 청크 경계에서 중단)
+     */
+    public Optional<IngestionJobDto> cancel(String jobId) {
+        IngestionJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        if (!job.isFinished()) {
+            job.progress.requestCancel();
+            log.info("Cancellation requested for ingestion job {}", jobId);
+        }
+        return Optional.of(toDto(job));
+    }
+
+    /**
+     * 실행 중이거나 대기 중인 작업 수
+     */
+    public int getActiveJobCount() {
+        return (int) jobs.values().stream().filter(job -> !job.isFinished()).count();
+    }
+
+    private void run(IngestionJob job, SpooledUpload transactions, SpooledUpload rules, String companyId,
+                     String resumeRunId, String idempotencyKey) {
+        try {
+            process(job, transactions, rules, companyId, resumeRunId, idempotencyKey);
+        } finally {
+            pendingPermits.release();
+        }
+    }
+
+    private void process(IngestionJob job, SpooledUpload transactions, SpooledUpload rules, String companyId,
+                         String resumeRunId, String idempotencyKey) {
+        try (transactions; rules) {
+            runningPermits.acquire();
+            try {
+                if (job.progress.isCancelRequested()) {
+                    job.progress.finish(IngestionProgress.Stage.CANCELLED, "Cancelled before start");
+                    return;
+                }
+                job.result = accountingService.processAccounting(transactions, rules, companyId, resumeRunId,
+                        idempotencyKey, job.progress);
+            } finally {
+                runningPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.progress.finish(IngestionProgress.Stage.CANCELLED, "Interrupted");
+        } catch (Exception e) {
+            // 처리 중 실패는 AccountingService에서 진행 상황에 기록됨
+            if (!job.isFinished()) {
+                job.progress.finish(IngestionProgress.Stage.FAILED, e.getMessage());
+            }
+            log.warn("Ingestion job {} ended with {}: {}", job.jobId, job.progress.getStage(), e.getMessage());
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished()
+                && job.progress.getFinishedAt() != null
+                && job.progress.getFinishedAt().isBefore(threshold));
+    }
+
+    private IngestionJobDto toDto(IngestionJob job) {
+        IngestionProgress progress = job.progress;
+
+        IngestionJobDto dto = new IngestionJobDto();
+        dto.setJobId(job.jobId);
+        dto.setRunId(progress.getRunId());
+        dto.setStage(progress.getStage().name());
+        dto.setProcessedRows(progress.getProcessedRows());
+        dto.setClassifiedRows(progress.getClassifiedRows());
+        dto.setRowsPerSecond(progress.getRowsPerSecond());
+        dto.setSubmittedAt(job.submittedAt);
+        dto.setStartedAt(progress.getStartedAt());
+        dto.setFinishedAt(progress.getFinishedAt());
+        dto.setError(progress.getErrorMessage());
+        dto.setResult(job.result);
+        return dto;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
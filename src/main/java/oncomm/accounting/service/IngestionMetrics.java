@@ -0,0 +1,73 @@
+package oncomm.accounting.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 거래 내역 처리 파이프라인 지표
+ * - accounting.ingestion.stage: 단계별 소요 시간 (stage=rule_sync|parse|classify|dedup|insert|persist|total)
+ * - accounting.ingestion.rows: 단계별 행 수 (outcome=parsed|duplicate|classified|unclassified, company=회사 ID 또는 none)
+ * - accounting.ingestion.in_flight: 처리 중인 업로드 수 (동기/비동기 포함)
+ */
+@Component
+public class IngestionMetrics {
+
+    static final String NO_COMPANY = "none";
+
+    private final MeterRegistry registry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public IngestionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("accounting.ingestion.in_flight", inFlight, AtomicInteger::get)
+                .description("Uploads currently being processed")
+                .register(registry);
+    }
+
+    Timer.Sample startStage() {
+        return Timer.start(registry);
+    }
+
+    void stopStage(Timer.Sample sample, String stage) {
+        sample.stop(stageTimer(stage));
+    }
+
+    <T> T timeStage(String stage, Supplier<T> task) {
+        return stageTimer(stage).record(task);
+    }
+
+    /**
+     * 회사별 행 수 누적 (company → 건수)
+     */
+    void countRows(String outcome, Map<String, Long> countsByCompany) {
+        countsByCompany.forEach((companyId, count) -> Counter.builder("accounting.ingestion.rows")
+                .description("Rows handled by the ingestion pipeline")
+                .tag("outcome", outcome)
+                .tag("company", companyId)
+                .register(registry)
+                .increment(count));
+    }
+
+    void ingestionStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void ingestionFinished() {
+        inFlight.decrementAndGet();
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("accounting.ingestion.stage")
+                .description("Time spent in each ingestion pipeline stage")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
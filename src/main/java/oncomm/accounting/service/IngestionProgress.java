@@ -0,0 +1,112 @@
+package oncomm.accounting.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 거래 내역 처리 진행 상황 (처리 스레드가 갱신하고 조회 스레드가 읽음)
+ */
+public class IngestionProgress {
+
+    public enum Stage {
+        QUEUED,
+        RULE_SYNC,
+        INGESTING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+    private volatile Stage stage = Stage.QUEUED;
+    private volatile String runId;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+    private volatile boolean cancelRequested;
+    private volatile int resumedRows;
+    private final AtomicInteger processedRows = new AtomicInteger();
+    private final AtomicInteger classifiedRows = new AtomicInteger();
+
+    void start() {
+        startedAt = Instant.now();
+    }
+
+    void stage(Stage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * 처리 이력 연결 (재개 시 이전까지 커밋된 건수부터 시작)
+     */
+    void runStarted(String runId, int processedRows, int classifiedRows) {
+        this.runId = runId;
+        this.resumedRows = processedRows;
+        this.processedRows.set(processedRows);
+        this.classifiedRows.set(classifiedRows);
+    }
+
+    void chunkCommitted(int rows, int classified) {
+        processedRows.addAndGet(rows);
+        classifiedRows.addAndGet(classified);
+    }
+
+    void finish(Stage stage, String errorMessage) {
+        this.stage = stage;
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+    }
+
+    /**
+     * 취소 요청 (청크 경계에서 처리가 중단됨)
+     */
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public int getProcessedRows() {
+        return processedRows.get();
+    }
+
+    public int getClassifiedRows() {
+        return classifiedRows.get();
+    }
+
+    /**
+     * 이번 실행에서 처리한 초당 행 수
+     */
+    public double getRowsPerSecond() {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0.0;
+        }
+
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = Duration.between(start, end).toMillis() / 1000.0;
+        return seconds > 0 ? (processedRows.get() - resumedRows) / seconds : 0.0;
+    }
+}
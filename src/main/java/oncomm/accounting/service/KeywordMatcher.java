@@ -0,0 +1,248 @@
+package oncomm.accounting.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Aho-Corasick 기반 다중 키워드 매처
+ * - 규칙 로딩 시 한 번만 컴파일하고, 문자열을 한 번 순회하면서 가장 긴 키워드를 찾는다
+ * - 길이가 같은 키워드가 여러 개 매칭되면 문자열에서 먼저 등장한 키워드가 우선한다
+ * - 같은 키워드가 중복 등록되면 먼저 등록된 값이 유지된다
+ * - 값마다 추가 조건이 있으면 match(text, resolver)로 조건을 통과한 키워드 중 가장 긴 키워드를 찾는다
+ * - 생성 이후 불변이므로 여러 스레드에서 공유해도 안전하다
+ */
+public final class KeywordMatcher<T> {
+
+    private static final int ROOT = 0;
+
+    // 노드별 자식 전이 (문자 오름차순 정렬, 이진 탐색)
+    private final char[][] edgeLabels;
+    private final int[][] edgeTargets;
+
+    // 실패 링크
+    private final int[] failure;
+
+    // 노드에서 끝나는 가장 긴 키워드의 길이와 값 (실패 링크를 따라 상속됨)
+    private final int[] outputLength;
+    private final Object[] outputValue;
+
+    // 노드 자체에서 끝나는 키워드의 값과, 실패 링크를 따라 처음 만나는 키워드 끝 노드 (없으면 -1)
+    private final Object[] terminalValue;
+    private final int[] dictionaryLink;
+
+    private final int keywordCount;
+
+    private KeywordMatcher(char[][] edgeLabels, int[][] edgeTargets, int[] failure,
+                           int[] outputLength, Object[] outputValue, Object[] terminalValue, int[] dictionaryLink,
+                           int keywordCount) {
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputLength = outputLength;
+        this.outputValue = outputValue;
+        this.terminalValue = terminalValue;
+        this.dictionaryLink = dictionaryLink;
+        this.keywordCount = keywordCount;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 문자열에 포함된 키워드 중 가장 긴 키워드의 값을 반환 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public T match(String text) {
+        if (text == null || text.isEmpty() || keywordCount == 0) {
+            return null;
+        }
+
+        int state = ROOT;
+        int bestLength = 0;
+        Object best = null;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+
+            // 같은 길이는 먼저 끝난(=먼저 시작한) 매칭을 유지
+            if (outputLength[state] > bestLength) {
+                bestLength = outputLength[state];
+                best = outputValue[state];
+            }
+        }
+
+        return (T) best;
+    }
+
+    /**
+     * 문자열에 포함된 키워드 중 resolver가 null이 아닌 값을 돌려준 가장 긴 키워드의 결과 (없으면 null)
+     * - 같은 위치에서 끝나는 키워드를 긴 것부터 확인하고, 이미 찾은 길이 이하가 되면 멈춘다
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R match(String text, Function<? super T, ? extends R> resolver) {
+        if (text == null || text.isEmpty() || keywordCount == 0) {
+            return null;
+        }
+
+        int state = ROOT;
+        int bestLength = 0;
+        R best = null;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+
+            int node = terminalValue[state] != null ? state : dictionaryLink[state];
+            while (node > ROOT && outputLength[node] > bestLength) {
+                R resolved = resolver.apply((T) terminalValue[node]);
+                if (resolved != null) {
+                    bestLength = outputLength[node];
+                    best = resolved;
+                    break;
+                }
+                node = dictionaryLink[node];
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * 등록된 키워드 수
+     */
+    public int size() {
+        return keywordCount;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int index = Arrays.binarySearch(edgeLabels[state], c);
+            if (index >= 0) {
+                return edgeTargets[state][index];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    /**
+     * 키워드 트라이를 구성한 뒤 실패 링크를 계산해 매처를 생성
+     */
+    public static final class Builder<T> {
+
+        private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        private final List<Integer> terminalLength = new ArrayList<>();
+        private final List<Object> terminalValue = new ArrayList<>();
+        private int keywordCount;
+
+        private Builder() {
+            newNode();
+        }
+
+        /**
+         * 키워드 등록
+         * @return 새로 등록되었으면 true, 빈 키워드이거나 이미 등록된 키워드면 false
+         */
+        public boolean add(String keyword, T value) {
+            Objects.requireNonNull(value, "value");
+            if (keyword == null || keyword.isEmpty()) {
+                return false;
+            }
+
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer child = children.get(node).get(c);
+                if (child == null) {
+                    child = newNode();
+                    children.get(node).put(c, child);
+                }
+                node = child;
+            }
+
+            // 중복 키워드는 먼저 등록된 규칙 유지
+            if (terminalValue.get(node) != null) {
+                return false;
+            }
+
+            terminalLength.set(node, keyword.length());
+            terminalValue.set(node, value);
+            keywordCount++;
+            return true;
+        }
+
+        public KeywordMatcher<T> build() {
+            int nodeCount = children.size();
+            char[][] edgeLabels = new char[nodeCount][];
+            int[][] edgeTargets = new int[nodeCount][];
+            int[] failure = new int[nodeCount];
+            int[] outputLength = new int[nodeCount];
+            Object[] outputValue = new Object[nodeCount];
+            Object[] terminals = terminalValue.toArray();
+            int[] dictionaryLink = new int[nodeCount];
+            dictionaryLink[ROOT] = -1;
+
+            for (int node = 0; node < nodeCount; node++) {
+                TreeMap<Character, Integer> edges = children.get(node);
+                char[] labels = new char[edges.size()];
+                int[] targets = new int[edges.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    labels[i] = edge.getKey();
+                    targets[i] = edge.getValue();
+                    i++;
+                }
+                edgeLabels[node] = labels;
+                edgeTargets[node] = targets;
+            }
+
+            // BFS 순서로 실패 링크 계산 (부모 깊이의 노드가 항상 먼저 처리됨)
+            KeywordMatcher<T> matcher = new KeywordMatcher<>(edgeLabels, edgeTargets, failure,
+                    outputLength, outputValue, terminals, dictionaryLink, keywordCount);
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : edgeTargets[ROOT]) {
+                failure[child] = ROOT;
+                queue.add(child);
+            }
+
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                int fallback = failure[node];
+                dictionaryLink[node] = terminals[fallback] != null ? fallback : dictionaryLink[fallback];
+
+                // 노드 자체가 키워드 끝이면 그 길이가 이 노드에서 끝나는 가장 긴 키워드
+                if (terminalValue.get(node) != null) {
+                    outputLength[node] = terminalLength.get(node);
+                    outputValue[node] = terminalValue.get(node);
+                } else {
+                    outputLength[node] = outputLength[failure[node]];
+                    outputValue[node] = outputValue[failure[node]];
+                }
+
+                for (int i = 0; i < edgeLabels[node].length; i++) {
+                    int child = edgeTargets[node][i];
+                    failure[child] = matcher.next(failure[node], edgeLabels[node][i]);
+                    queue.add(child);
+                }
+            }
+
+            return matcher;
+        }
+
+        private int newNode() {
+            children.add(new TreeMap<>());
+            terminalLength.add(0);
+            terminalValue.add(null);
+            return children.size() - 1;
+        }
+    }
+}
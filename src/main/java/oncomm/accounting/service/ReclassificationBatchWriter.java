@@ -0,0 +1,66 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.entity.Category;
+import oncomm.accounting.entity.Company;
+import oncomm.accounting.repository.BankTransactionRepository;
+import oncomm.accounting.repository.CompanyStatisticsBatchRepository;
+import oncomm.accounting.repository.MonthlyRollupBatchRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재분류 결과를 배치 단위로 반영
+ * - 계정과목별로 묶어 UPDATE ... WHERE id IN (...) 한 번으로 처리
+ * - 같은 트랜잭션에서 회사별 통계 카운터와 월별 롤업 증분 갱신 (롤업은 UPDATE 직전 아직 미분류인 행 기준)
+ * - 분류가 바뀐 회사의 분석 스냅샷은 커밋 이후 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class ReclassificationBatchWriter {
+
+    private final BankTransactionRepository bankTransactionRepository;
+    private final CompanyStatisticsBatchRepository companyStatisticsBatchRepository;
+    private final MonthlyRollupBatchRepository monthlyRollupBatchRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param matches 분류 대상 → 거래 내역 ID 목록
+     * @return 실제로 분류된 행 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int apply(Map<CategoryInfo, List<Long>> matches) {
+        int updated = 0;
+        Map<Long, long[]> statisticsDeltas = new HashMap<>();
+
+        for (Map.Entry<CategoryInfo, List<Long>> entry : matches.entrySet()) {
+            CategoryInfo categoryInfo = entry.getKey();
+            monthlyRollupBatchRepository.incrementFromUnclassified(entry.getValue(),
+                    categoryInfo.companyPk, categoryInfo.categoryPk);
+            int rows = bankTransactionRepository.classifyAll(entry.getValue(),
+                    entityManager.getReference(Company.class, categoryInfo.companyPk),
+                    entityManager.getReference(Category.class, categoryInfo.categoryPk));
+            if (rows > 0) {
+                long[] delta = statisticsDeltas.computeIfAbsent(categoryInfo.companyPk, pk -> new long[2]);
+                delta[0] += rows;
+                delta[1] += rows;
+                updated += rows;
+            }
+        }
+
+        companyStatisticsBatchRepository.increment(statisticsDeltas);
+        if (!statisticsDeltas.isEmpty()) {
+            // 커밋 이후 분석 스냅샷 무효화
+            eventPublisher.publishEvent(new CompanyTransactionsChangedEvent(statisticsDeltas.keySet()));
+        }
+        return updated;
+    }
+}
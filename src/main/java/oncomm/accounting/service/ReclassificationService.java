@@ -0,0 +1,234 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.ReclassificationJobDto;
+import oncomm.accounting.repository.BankTransactionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 규칙 변경 시 미분류 거래 내역 재분류
+ * - 미분류 행만 id 키셋 배치로 스캔하고, 추가된 키워드가 적요에 포함된 행만 후보로 삼는다 (조건 변경 시에는 전체)
+ * - 후보는 전체 규칙 스냅샷으로 다시 분류해 계정과목별 UPDATE 한 번으로 반영
+ * - 작업은 가상 스레드 한 개에서 순서대로 실행되며 상태는 메모리에 보관
+ */
+@Service
+@Slf4j
+public class ReclassificationService {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final BankTransactionRepository bankTransactionRepository;
+    private final ReclassificationBatchWriter batchWriter;
+    private final RuleRegistry ruleRegistry;
+    private final int batchSize;
+    private final Duration retention;
+    private final Map<String, ReclassificationJob> jobs = new ConcurrentHashMap<>();
+    // 작업끼리 같은 행을 두고 경합하지 않도록 한 번에 하나씩 실행
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("reclassification-", 0).factory());
+
+    public ReclassificationService(BankTransactionRepository bankTransactionRepository,
+                                   ReclassificationBatchWriter batchWriter,
+                                   RuleRegistry ruleRegistry,
+                                   @Value("${accounting.reclassification.batch-size:1000}") int batchSize,
+                                   @Value("${accounting.jobs.retention:PT1H}") Duration retention) {
+        this.bankTransactionRepository = bankTransactionRepository;
+        this.batchWriter = batchWriter;
+        this.ruleRegistry = ruleRegistry;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    /**
+     * 추가된 키워드 기준 재분류 등록
+     * @param rules 추가된 키워드가 반영된 규칙 스냅샷
+     * @param addedKeywords 규칙 동기화로 새로 추가된 키워드 (categoryId → 키워드 목록)
+     */
+    public ReclassificationJobDto submit(RuleSnapshot rules, Map<String, List<String>> addedKeywords) {
+        List<String> keywords = addedKeywords.values().stream()
+                .flatMap(List::stream)
+                .filter(keyword -> keyword != null && !keyword.isEmpty())
+                .distinct()
+                .toList();
+        return enqueue(rules, keywords);
+    }
+
+    /**
+     * 규칙 동기화 결과에 따라 재분류 등록
+     * - 조건이 추가/변경되면 키워드 후보 필터 없이 전체 (키워드 없는 조건 규칙도 기존 행을 분류할 수 있음)
+     * - 키워드만 추가되면 추가된 키워드가 적요에 포함된 행만
+     * @return 등록한 작업 (다시 분류할 변경이 없으면 null)
+     */
+    public ReclassificationJobDto submit(RuleSyncResult result) {
+        if (result.isConditionsChanged()) {
+            return submitFull();
+        }
+        if (!result.getAddedKeywords().isEmpty()) {
+            return submit(ruleRegistry.getGlobal(), result.getAddedKeywords());
+        }
+        return null;
+    }
+
+    /**
+     * 저장된 전체 규칙으로 미분류 거래 내역 전체 재분류 등록
+     */
+    public ReclassificationJobDto submitFull() {
+        return enqueue(null, null);
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<ReclassificationJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ReclassificationJob::toDto);
+    }
+
+    private ReclassificationJobDto enqueue(RuleSnapshot rules, List<String> keywords) {
+        purgeExpiredJobs();
+
+        ReclassificationJob job = new ReclassificationJob(UUID.randomUUID().toString(), keywords);
+        jobs.put(job.jobId, job);
+        executor.execute(() -> run(job, rules));
+
+        log.info("Submitted reclassification job {} ({})", job.jobId,
+                keywords == null ? "full" : keywords.size() + " added keywords");
+        return job.toDto();
+    }
+
+    private void run(ReclassificationJob job, RuleSnapshot rules) {
+        job.status = Status.RUNNING;
+        job.startedAt = Instant.now();
+
+        try {
+            // 대기 중에 규칙이 다시 바뀌었으면 저장된 최신 규칙으로 분류 (삭제된 계정과목 참조 방지)
+            RuleSnapshot latest = ruleRegistry.getGlobal();
+            if (rules == null || !rules.getVersion().equals(latest.getVersion())) {
+                rules = latest;
+            }
+            job.ruleVersion = rules.getVersion();
+
+            KeywordMatcher<Boolean> candidateFilter = job.addedKeywords == null ? null : compileFilter(job.addedKeywords);
+            if (candidateFilter != null && candidateFilter.size() == 0) {
+                finish(job, Status.COMPLETED, null);
+                return;
+            }
+
+            long afterId = 0L;
+            while (true) {
+                List<Object[]> rows = bankTransactionRepository.findUnclassifiedRows(afterId, Limit.of(batchSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                Map<CategoryInfo, List<Long>> matches = new HashMap<>();
+                for (Object[] row : rows) {
+                    Long id = (Long) row[0];
+                    String description = (String) row[1];
+                    afterId = id;
+
+                    if (candidateFilter != null
+                            && (description == null || candidateFilter.match(description.toLowerCase()) == null)) {
+                        continue;
+                    }
+                    CategoryInfo categoryInfo = rules.classify(description, (Long) row[2], (Long) row[3],
+                            (String) row[4], (LocalDateTime) row[5]);
+                    if (categoryInfo != null) {
+                        matches.computeIfAbsent(categoryInfo, key -> new ArrayList<>()).add(id);
+                    }
+                }
+
+                if (!matches.isEmpty()) {
+                    job.reclassifiedRows += batchWriter.apply(matches);
+                }
+                job.scannedRows += rows.size();
+
+                if (rows.size() < batchSize) {
+                    break;
+                }
+            }
+
+            finish(job, Status.COMPLETED, null);
+            log.info("Reclassification job {} completed: {} of {} unclassified rows moved",
+                    job.jobId, job.reclassifiedRows, job.scannedRows);
+        } catch (Exception e) {
+            finish(job, Status.FAILED, e.getMessage());
+            log.error("Reclassification job {} failed", job.jobId, e);
+        }
+    }
+
+    private static KeywordMatcher<Boolean> compileFilter(List<String> keywords) {
+        KeywordMatcher.Builder<Boolean> builder = KeywordMatcher.builder();
+        for (String keyword : keywords) {
+            builder.add(keyword.toLowerCase(), Boolean.TRUE);
+        }
+        return builder.build();
+    }
+
+    private static void finish(ReclassificationJob job, Status status, String error) {
+        job.error = error;
+        job.finishedAt = Instant.now();
+        job.status = status;
+    }
+
+    private void purgeExpiredJobs() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 재분류 작업 상태 (작업 스레드가 갱신하고 조회 스레드가 읽음)
+     */
+    private static class ReclassificationJob {
+        final String jobId;
+        final List<String> addedKeywords;
+        final Instant submittedAt = Instant.now();
+        volatile Status status = Status.QUEUED;
+        volatile String ruleVersion;
+        volatile long scannedRows;
+        volatile long reclassifiedRows;
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+        volatile String error;
+
+        ReclassificationJob(String jobId, List<String> addedKeywords) {
+            this.jobId = jobId;
+            this.addedKeywords = addedKeywords;
+        }
+
+        ReclassificationJobDto toDto() {
+            ReclassificationJobDto dto = new ReclassificationJobDto();
+            dto.setJobId(jobId);
+            dto.setRuleVersion(ruleVersion);
+            dto.setStatus(status.name());
+            dto.setAddedKeywords(addedKeywords);
+            dto.setScannedRows(scannedRows);
+            dto.setReclassifiedRows(reclassifiedRows);
+            dto.setSubmittedAt(submittedAt);
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            dto.setError(error);
+            return dto;
+        }
+    }
+}
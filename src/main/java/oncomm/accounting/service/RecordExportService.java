@@ -0,0 +1,140 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.AccountingRecordDto;
+import oncomm.accounting.entity.Company;
+import oncomm.accounting.repository.BankTransactionRepository;
+import oncomm.accounting.repository.CompanyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 분류 결과 스트리밍 내보내기 (CSV / NDJSON)
+ * - 서버 커서로 일정 건수씩 읽어 바로 응답 스트림에 쓰므로 건수와 무관하게 메모리 사용량이 일정하다
+ * - DTO 프로젝션만 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecordExportService {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String[] CSV_HEADER = {
+            "id", "transactionDate", "description", "depositAmount", "withdrawalAmount", "balanceAfter",
+            "branch", "companyId", "companyName", "categoryId", "categoryName", "isClassified"
+    };
+    // 응답 스트림으로 내보내는 주기 (행 수)
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final CompanyRepository companyRepository;
+    private final BankTransactionRepository bankTransactionRepository;
+    private final ArchiveService archiveService;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    /**
+     * 내보내기 대상 회사 PK 확인 (응답 스트리밍 시작 전에 검증)
+     */
+    @Transactional(readOnly = true)
+    public Long resolveCompanyPk(String companyId) {
+        return companyRepository.findByCompanyId(companyId)
+                .map(Company::getId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
+    }
+
+    /**
+     * 회사의 기간 내 분류 결과를 거래일시 오름차순으로 출력
+     * @param from 시작일 (포함)
+     * @param to   종료일 (포함)
+     * @return 출력한 행 수
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "accounting.export", histogram = true)
+    public long export(Long companyPk, LocalDate from, LocalDate to, Format format, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        try (Stream<AccountingRecordDto> records = bankTransactionRepository.streamAccountingRecords(companyPk, start, end)) {
+            // 아카이브된 달은 세그먼트를 하나씩 읽어 핫 테이블 결과와 병합
+            Iterator<AccountingRecordDto> iterator = archiveService.hasArchive(companyPk)
+                    ? RecordOrder.merge(records.iterator(), archiveService.iterateRecords(companyPk, start, end), RecordOrder.ASCENDING)
+                    : records.iterator();
+
+            if (format == Format.CSV) {
+                CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(CSV_HEADER).build());
+                // 첫 바이트를 빨리 보내기 위해 헤더 출력 직후 내보냄
+                writer.flush();
+                while (iterator.hasNext()) {
+                    AccountingRecordDto record = iterator.next();
+                    printer.printRecord(record.getId(), record.getTransactionDate().format(DATE_TIME_FORMATTER),
+                            record.getDescription(), record.getDepositAmount(), record.getWithdrawalAmount(),
+                            record.getBalanceAfter(), record.getBranch(), record.getCompanyId(), record.getCompanyName(),
+                            record.getCategoryId(), record.getCategoryName(), record.getIsClassified());
+                    if (++rows % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+            } else {
+                while (iterator.hasNext()) {
+                    writer.write(objectMapper.writeValueAsString(iterator.next()));
+                    writer.write('\n');
+                    if (++rows % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("Exported {} records for company {} ({} ~ {}, {})", rows, companyPk, from, to, format);
+        return rows;
+    }
+}
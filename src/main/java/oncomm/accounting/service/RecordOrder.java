@@ -0,0 +1,81 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.AccountingRecordDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 분류 결과 정렬 순서 (transaction_date, id)와 정렬된 결과 병합
+ * - 핫 테이블 조회 결과와 아카이브 세그먼트 결과를 합칠 때 사용
+ */
+final class RecordOrder {
+
+    static final Comparator<AccountingRecordDto> ASCENDING =
+            Comparator.comparing(AccountingRecordDto::getTransactionDate).thenComparing(AccountingRecordDto::getId);
+    static final Comparator<AccountingRecordDto> DESCENDING = ASCENDING.reversed();
+
+    private RecordOrder() {
+    }
+
+    /**
+     * 같은 순서로 정렬된 두 목록을 병합해 앞에서부터 최대 limit건 반환
+     */
+    static List<AccountingRecordDto> merge(List<AccountingRecordDto> first, List<AccountingRecordDto> second,
+                                           Comparator<AccountingRecordDto> order, int limit) {
+        if (second.isEmpty()) {
+            return first.size() > limit ? first.subList(0, limit) : first;
+        }
+
+        List<AccountingRecordDto> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j >= second.size() || (i < first.size() && order.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 같은 순서로 정렬된 두 순회를 하나로 병합
+     */
+    static Iterator<AccountingRecordDto> merge(Iterator<AccountingRecordDto> first, Iterator<AccountingRecordDto> second,
+                                               Comparator<AccountingRecordDto> order) {
+        if (!second.hasNext()) {
+            return first;
+        }
+
+        return new Iterator<>() {
+            private AccountingRecordDto nextFirst = first.hasNext() ? first.next() : null;
+            private AccountingRecordDto nextSecond = second.hasNext() ? second.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return nextFirst != null || nextSecond != null;
+            }
+
+            @Override
+            public AccountingRecordDto next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                AccountingRecordDto record;
+                if (nextSecond == null || (nextFirst != null && order.compare(nextFirst, nextSecond) <= 0)) {
+                    record = nextFirst;
+                    nextFirst = first.hasNext() ? first.next() : null;
+                } else {
+                    record = nextSecond;
+                    nextSecond = second.hasNext() ? second.next() : null;
+                }
+                return record;
+            }
+        };
+    }
+}
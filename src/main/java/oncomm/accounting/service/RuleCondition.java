@@ -0,0 +1,236 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.RuleConditionsDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 컴파일된 계정과목 분류 조건 (불변)
+ * - 방향/금액/요일/시각을 원시 값으로 풀어 두고 비용이 낮은 조건부터 확인한다
+ * - 조건 없는 필드는 항상 만족 (방향 ANY, 금액 Long 범위 전체, 요일 전체)
+ */
+final class RuleCondition {
+
+    static final int ANY = -1;
+    static final int NONE = 0;
+    static final int DEPOSIT = 1;
+    static final int WITHDRAWAL = 2;
+
+    private static final int ALL_DAYS = 0x7F;
+
+    final int direction;
+    final long minAmount;
+    final long maxAmount;
+    // null이면 거래점 무관 (목록은 선언 순서, 조회는 Set)
+    private final List<String> branchNames;
+    private final Set<String> branches;
+    // 하루 중 분 (ANY면 시각 무관)
+    private final int minuteFrom;
+    private final int minuteTo;
+    // 월요일이 비트 0
+    private final int weekdayMask;
+
+    private RuleCondition(int direction, long minAmount, long maxAmount, List<String> branchNames,
+                          int minuteFrom, int minuteTo, int weekdayMask) {
+        this.direction = direction;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.branchNames = branchNames;
+        this.branches = branchNames == null ? null : Set.copyOf(branchNames);
+        this.minuteFrom = minuteFrom;
+        this.minuteTo = minuteTo;
+        this.weekdayMask = weekdayMask;
+    }
+
+    /**
+     * 규칙 조건 검증 및 컴파일
+     * @return 지정된 조건이 없으면 null
+     * @throws IllegalArgumentException 값이 잘못된 경우
+     */
+    static RuleCondition of(RuleConditionsDto dto) {
+        if (dto == null) {
+            return null;
+        }
+
+        int direction = ANY;
+        if (dto.getDirection() != null && !dto.getDirection().isBlank()) {
+            direction = switch (dto.getDirection().trim().toLowerCase(Locale.ROOT)) {
+                case "deposit" -> DEPOSIT;
+                case "withdrawal" -> WITHDRAWAL;
+                default -> throw new IllegalArgumentException("Unsupported direction: " + dto.getDirection());
+            };
+        }
+
+        long minAmount = dto.getMinAmount() != null ? dto.getMinAmount() : Long.MIN_VALUE;
+        long maxAmount = dto.getMaxAmount() != null ? dto.getMaxAmount() : Long.MAX_VALUE;
+        if ((dto.getMinAmount() != null && minAmount < 0) || (dto.getMaxAmount() != null && maxAmount < 0)) {
+            throw new IllegalArgumentException("Amount range must not be negative");
+        }
+        if (minAmount > maxAmount) {
+            throw new IllegalArgumentException("min_amount must not be greater than max_amount");
+        }
+
+        Set<String> branches = null;
+        if (dto.getBranches() != null) {
+            branches = new LinkedHashSet<>();
+            for (String branch : dto.getBranches()) {
+                if (branch == null || branch.isBlank()) {
+                    continue;
+                }
+                if (branch.contains(",")) {
+                    throw new IllegalArgumentException("Branch must not contain ',': " + branch);
+                }
+                branches.add(branch.trim());
+            }
+            if (branches.isEmpty()) {
+                branches = null;
+            }
+        }
+
+        if ((dto.getTimeFrom() == null) != (dto.getTimeTo() == null)) {
+            throw new IllegalArgumentException("time_from and time_to must be given together");
+        }
+        int minuteFrom = ANY;
+        int minuteTo = ANY;
+        if (dto.getTimeFrom() != null) {
+            minuteFrom = minuteOfDay(dto.getTimeFrom());
+            minuteTo = minuteOfDay(dto.getTimeTo());
+            if (minuteFrom == minuteTo) {
+                throw new IllegalArgumentException("time_from and time_to must differ");
+            }
+        }
+
+        int weekdayMask = ALL_DAYS;
+        if (dto.getWeekdays() != null && !dto.getWeekdays().isEmpty()) {
+            weekdayMask = 0;
+            for (String weekday : dto.getWeekdays()) {
+                weekdayMask |= 1 << parseWeekday(weekday).ordinal();
+            }
+        }
+
+        if (direction == ANY && minAmount == Long.MIN_VALUE && maxAmount == Long.MAX_VALUE && branches == null
+                && minuteFrom == ANY && weekdayMask == ALL_DAYS) {
+            return null;
+        }
+        return new RuleCondition(direction, minAmount, maxAmount, branches == null ? null : List.copyOf(branches),
+                minuteFrom, minuteTo, weekdayMask);
+    }
+
+    /**
+     * 정규화된 조건 (저장, 규칙 버전 계산, 조회 응답에 사용)
+     */
+    static RuleConditionsDto normalize(RuleConditionsDto dto) {
+        RuleCondition condition = of(dto);
+        return condition == null ? null : condition.toDto();
+    }
+
+    private RuleConditionsDto toDto() {
+        RuleConditionsDto dto = new RuleConditionsDto();
+        if (direction != ANY) {
+            dto.setDirection(direction == DEPOSIT ? "deposit" : "withdrawal");
+        }
+        dto.setMinAmount(minAmount == Long.MIN_VALUE ? null : minAmount);
+        dto.setMaxAmount(maxAmount == Long.MAX_VALUE ? null : maxAmount);
+        dto.setBranches(branchNames);
+        if (minuteFrom != ANY) {
+            dto.setTimeFrom(LocalTime.of(minuteFrom / 60, minuteFrom % 60));
+            dto.setTimeTo(LocalTime.of(minuteTo / 60, minuteTo % 60));
+        }
+        if (weekdayMask != ALL_DAYS) {
+            List<String> weekdays = new ArrayList<>();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if ((weekdayMask & (1 << day.ordinal())) != 0) {
+                    weekdays.add(day.name().substring(0, 3));
+                }
+            }
+            dto.setWeekdays(List.copyOf(weekdays));
+        }
+        return dto;
+    }
+
+    /**
+     * 방향/금액을 제외한 조건 확인 (ConditionIndex가 방향과 금액 구간으로 이미 걸러낸 경우)
+     */
+    boolean matchesRest(Input input) {
+        if (weekdayMask != ALL_DAYS && (input.dayOfWeek < 0 || (weekdayMask & (1 << input.dayOfWeek)) == 0)) {
+            return false;
+        }
+        if (minuteFrom != ANY) {
+            if (input.minuteOfDay < 0) {
+                return false;
+            }
+            boolean inRange = minuteFrom < minuteTo
+                    ? input.minuteOfDay >= minuteFrom && input.minuteOfDay < minuteTo
+                    : input.minuteOfDay >= minuteFrom || input.minuteOfDay < minuteTo;
+            if (!inRange) {
+                return false;
+            }
+        }
+        return branches == null || (input.branch != null && branches.contains(input.branch));
+    }
+
+    /**
+     * 전체 조건 확인 (정수 비교를 먼저, 거래점 해시 조회를 마지막에)
+     */
+    boolean matches(Input input) {
+        if (direction != ANY && direction != input.direction) {
+            return false;
+        }
+        if (input.amount < minAmount || input.amount > maxAmount) {
+            return false;
+        }
+        return matchesRest(input);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static DayOfWeek parseWeekday(String value) {
+        if (value != null) {
+            String normalized = value.trim().toUpperCase(Locale.ROOT);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (day.name().equals(normalized) || (normalized.length() == 3 && day.name().startsWith(normalized))) {
+                    return day;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported weekday: " + value);
+    }
+
+    /**
+     * 조건 평가용 거래 속성 (행마다 한 번만 계산)
+     * - 입금액이 있으면 입금, 없고 출금액이 있으면 출금, 둘 다 없으면 방향 없음(금액 0)
+     */
+    static final class Input {
+        final int direction;
+        final long amount;
+        final String branch;
+        final int minuteOfDay;
+        // 월요일 0 (일시가 없으면 -1)
+        final int dayOfWeek;
+
+        Input(Long depositAmount, Long withdrawalAmount, String branch, LocalDateTime transactionDate) {
+            if (depositAmount != null && depositAmount > 0) {
+                this.direction = DEPOSIT;
+                this.amount = depositAmount;
+            } else if (withdrawalAmount != null && withdrawalAmount > 0) {
+                this.direction = WITHDRAWAL;
+                this.amount = withdrawalAmount;
+            } else {
+                this.direction = NONE;
+                this.amount = 0L;
+            }
+            this.branch = branch == null ? null : branch.trim();
+            this.minuteOfDay = transactionDate == null ? -1 : transactionDate.getHour() * 60 + transactionDate.getMinute();
+            this.dayOfWeek = transactionDate == null ? -1 : transactionDate.getDayOfWeek().ordinal();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.ReclassificationJobDto;
+import oncomm.accounting.dto.RulesDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * 규칙 디렉터리 감시
+ * - accounting.rules.watch-directory에 규칙 JSON 파일(*.json)이 생성/수정되면 DB에 반영 (비어 있으면 사용 안 함)
+ * - DB 반영이 커밋되면 규칙 레지스트리가 바뀐 회사의 매처만 다시 컴파일하므로 재시작 없이 적용된다
+ * - 키워드나 조건이 추가/변경되면 업로드 경로와 같이 미분류 거래 재분류 작업을 등록한다
+ * - 쓰는 도중의 파일은 파싱에 실패해 건너뛰고, 쓰기가 끝나면 수정 이벤트로 다시 반영된다
+ */
+@Component
+@Slf4j
+public class RuleDirectoryWatcher {
+
+    private final RuleService ruleService;
+    private final ReclassificationService reclassificationService;
+    private final ObjectMapper objectMapper;
+    private final String directory;
+
+    private WatchService watchService;
+
+    public RuleDirectoryWatcher(RuleService ruleService, ReclassificationService reclassificationService,
+                                ObjectMapper objectMapper,
+                                @Value("${accounting.rules.watch-directory:}") String directory) {
+        this.ruleService = ruleService;
+        this.reclassificationService = reclassificationService;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (directory == null || directory.isBlank()) {
+            return;
+        }
+
+        Path path = Paths.get(directory);
+        Files.createDirectories(path);
+        watchService = path.getFileSystem().newWatchService();
+        path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread.ofPlatform().daemon().name("rule-directory-watcher").start(() -> watch(path));
+        log.info("Watching rule directory {}", path.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch(Path path) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        continue;
+                    }
+                    Path file = path.resolve((Path) event.context());
+                    if (file.getFileName().toString().endsWith(".json")) {
+                        apply(file);
+                    }
+                }
+                if (!key.reset()) {
+                    log.warn("Rule directory {} is no longer accessible, stopped watching", path);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // 종료
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void apply(Path file) {
+        try {
+            RulesDto rules = objectMapper.readValue(file.toFile(), RulesDto.class);
+            RuleSyncResult result = ruleService.saveRulesToDatabase(rules);
+            ReclassificationJobDto reclassificationJob = reclassificationService.submit(result);
+            log.info("Applied rule file {} (version {}, reclassification job {})",
+                    file.getFileName(), result.getVersion(), reclassificationJob != null ? reclassificationJob.getJobId() : null);
+        } catch (Exception e) {
+            log.warn("Skipped rule file {}: {}", file.getFileName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 컴파일된 분류 규칙 레지스트리
+ * - 회사별 불변 매처와 전체 회사 매처를 하나의 불변 스냅샷으로 묶어 AtomicReference로 게시 (copy-on-write)
+ * - 규칙 트리는 CompanyCatalog 스냅샷을 그대로 사용하고, 스냅샷이 바뀌면(규칙 변경 커밋 후) 다음 사용 시 내용이 바뀐 회사의 매처만 다시 컴파일
+ * - 분류 스레드는 게시된 스냅샷을 락 없이 읽는다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RuleRegistry {
+
+    private final CompanyCatalog companyCatalog;
+
+    private final AtomicReference<Registry> registry = new AtomicReference<>();
+
+    /**
+     * 게시된 규칙 전체 (불변)
+     */
+    private static final class Registry {
+        // 컴파일에 사용한 회사 목록 스냅샷 (같은 인스턴스인 동안 다시 컴파일하지 않음)
+        final CompanyCatalogSnapshot catalog;
+        final String version;
+        // 회사 ID → 회사 규칙
+        final Map<String, CompanyRules> companies;
+        // 회사 구분 없이 분류할 때 사용하는 전체 매처 (중복 키워드는 회사 PK 순서상 먼저 선언된 규칙 우선)
+        final RuleSnapshot global;
+
+        Registry(CompanyCatalogSnapshot catalog, Map<String, CompanyRules> companies, RuleSnapshot global) {
+            this.catalog = catalog;
+            this.version = catalog.getVersion();
+            this.companies = Map.copyOf(companies);
+            this.global = global;
+        }
+    }
+
+    /**
+     * 회사 한 곳의 컴파일된 규칙과 비교용 내용 (계정과목 PK/ID, 키워드 목록, 조건)
+     */
+    private static final class CompanyRules {
+        final List<Object> content;
+        final RuleSnapshot snapshot;
+
+        CompanyRules(List<Object> content, RuleSnapshot snapshot) {
+            this.content = content;
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * 전체 회사 매처 (회사를 지정하지 않은 업로드, 재분류)
+     */
+    public RuleSnapshot getGlobal() {
+        return get().global;
+    }
+
+    /**
+     * 회사 한 곳의 매처 (해당 회사 키워드만 포함)
+     */
+    public RuleSnapshot getCompany(String companyId) {
+        CompanyRules rules = get().companies.get(companyId);
+        if (rules == null) {
+            throw new IllegalArgumentException("Company not found: " + companyId);
+        }
+        return rules.snapshot;
+    }
+
+    public String getVersion() {
+        return get().version;
+    }
+
+    /**
+     * DB에서 규칙 트리를 다시 읽어 적재 (내용이 같은 회사는 기존 매처 재사용)
+     * @return {version, companies, recompiledCompanies}
+     */
+    public synchronized Map<String, Object> reload() {
+        companyCatalog.invalidate();
+        return load(companyCatalog.getSnapshot());
+    }
+
+    /**
+     * 회사 목록 스냅샷으로 적재
+     */
+    private synchronized Map<String, Object> load(CompanyCatalogSnapshot catalog) {
+        Registry previous = registry.get();
+
+        Map<String, CompanyRules> companies = new HashMap<>();
+        int recompiled = 0;
+        for (CompanyDto company : catalog.getCompanies()) {
+            List<Object> content = content(company);
+            CompanyRules existing = previous == null ? null : previous.companies.get(company.getCompanyId());
+            if (existing != null && existing.content.equals(content)) {
+                companies.put(company.getCompanyId(), existing);
+                continue;
+            }
+            companies.put(company.getCompanyId(),
+                    new CompanyRules(content, RuleSnapshot.compile(catalog.getVersion(), List.of(company))));
+            recompiled++;
+        }
+
+        // 바뀐 회사가 없으면 전체 매처도 재사용
+        boolean unchanged = previous != null && recompiled == 0 && previous.companies.size() == companies.size();
+        RuleSnapshot global = unchanged ? previous.global.withVersion(catalog.getVersion()) : RuleSnapshot.compile(catalog);
+        registry.set(new Registry(catalog, companies, global));
+
+        log.info("Rule registry loaded (version {}): {} companies, {} recompiled",
+                catalog.getVersion(), companies.size(), recompiled);
+        Map<String, Object> result = new HashMap<>();
+        result.put("version", catalog.getVersion());
+        result.put("companies", companies.size());
+        result.put("recompiledCompanies", recompiled);
+        return result;
+    }
+
+    private Registry get() {
+        // 규칙 변경이 커밋되면 CompanyCatalog가 스냅샷을 버리므로 다음 조회에서 새 인스턴스가 나옴
+        CompanyCatalogSnapshot catalog = companyCatalog.getSnapshot();
+        Registry current = registry.get();
+        if (current == null || current.catalog != catalog) {
+            synchronized (this) {
+                // 대기 중에 다른 스레드가 더 새 스냅샷으로 적재했을 수 있으므로 다시 조회
+                catalog = companyCatalog.getSnapshot();
+                current = registry.get();
+                if (current == null || current.catalog != catalog) {
+                    load(catalog);
+                }
+            }
+        }
+        return registry.get();
+    }
+
+    private static List<Object> content(CompanyDto company) {
+        List<Object> content = new ArrayList<>();
+        content.add(company.getId());
+        for (CategoryDto category : company.getCategories()) {
+            // 조건이 없으면 null
+            content.add(Arrays.asList(category.getId(), category.getCategoryId(), category.getKeywords(),
+                    category.getConditions()));
+        }
+        return content;
+    }
+}
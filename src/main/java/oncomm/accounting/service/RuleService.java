@@ -0,0 +1,421 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import oncomm.accounting.dto.RuleConditionsDto;
+import oncomm.accounting.dto.RulesDto;
+import oncomm.accounting.entity.Category;
+import oncomm.accounting.entity.Company;
+import oncomm.accounting.entity.Keyword;
+import oncomm.accounting.entity.RuleVersion;
+import oncomm.accounting.repository.CategoryRepository;
+import oncomm.accounting.repository.CompanyRepository;
+import oncomm.accounting.repository.KeywordBatchRepository;
+import oncomm.accounting.repository.KeywordRepository;
+import oncomm.accounting.repository.RuleVersionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RuleService {
+
+    private final CompanyRepository companyRepository;
+    private final CategoryRepository categoryRepository;
+    private final KeywordRepository keywordRepository;
+    private final KeywordBatchRepository keywordBatchRepository;
+    private final RuleVersionRepository ruleVersionRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 규칙을 데이터베이스에 반영
+     * - 저장된 규칙 그래프를 한 번에 조회해 비교하고 실제 추가/변경/삭제분만 적용
+     * - 직전에 반영한 규칙과 내용이 같으면 아무것도 변경하지 않는다
+     */
+    public RuleSyncResult saveRulesToDatabase(RulesDto rules) {
+        Map<RulesDto.CompanyRule, List<RulesDto.CategoryRule>> validRules = validateRules(rules);
+        String version = computeRuleVersion(validRules);
+
+        Optional<RuleVersion> latest = ruleVersionRepository.findTopByOrderByIdDesc();
+        if (latest.isPresent() && latest.get().getVersionHash().equals(version)) {
+            log.info("Rules unchanged (version {}), skipping synchronization", version);
+            return RuleSyncResult.unchanged(version);
+        }
+
+        // 같은 계정과목 ID가 여러 번 나오면 마지막 선언 기준 (회사 이동 포함)
+        Map<String, RulesDto.CompanyRule> companyRules = new LinkedHashMap<>();
+        Map<String, RulesDto.CategoryRule> categoryRules = new LinkedHashMap<>();
+        Map<String, String> categoryOwners = new HashMap<>();
+        validRules.forEach((companyRule, categories) -> {
+            companyRules.put(companyRule.getCompanyId(), companyRule);
+            for (RulesDto.CategoryRule categoryRule : categories) {
+                categoryRules.put(categoryRule.getCategoryId(), categoryRule);
+                categoryOwners.put(categoryRule.getCategoryId(), companyRule.getCompanyId());
+            }
+        });
+
+        // 저장된 규칙 그래프 조회 (회사, 계정과목, 키워드 각 1회)
+        Map<String, Company> storedCompanies = companyRepository.findByCompanyIdIn(companyRules.keySet()).stream()
+                .collect(Collectors.toMap(Company::getCompanyId, Function.identity()));
+        Map<String, Category> storedCategories = categoryRepository.findByCategoryIdInWithCompany(categoryRules.keySet()).stream()
+                .collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+        Map<String, List<Keyword>> storedKeywords = keywordRepository.findByCategoryIdInWithCategory(categoryRules.keySet()).stream()
+                .collect(Collectors.groupingBy(keyword -> keyword.getCategory().getCategoryId()));
+
+        int changes = 0;
+
+        // 회사 추가/변경
+        for (RulesDto.CompanyRule companyRule : companyRules.values()) {
+            Company company = storedCompanies.get(companyRule.getCompanyId());
+            if (company == null) {
+                company = companyRepository.save(new Company(companyRule.getCompanyId(), companyRule.getCompanyName()));
+                storedCompanies.put(company.getCompanyId(), company);
+                log.info("Added company: {} ({})", companyRule.getCompanyName(), companyRule.getCompanyId());
+                changes++;
+            } else if (!company.getCompanyName().equals(companyRule.getCompanyName())) {
+                company.setCompanyName(companyRule.getCompanyName());
+                log.info("Renamed company: {} ({})", companyRule.getCompanyName(), companyRule.getCompanyId());
+                changes++;
+            }
+        }
+
+        // 계정과목 추가/변경 및 키워드 비교
+        List<Long> deletedKeywordIds = new ArrayList<>();
+        List<Object[]> insertedKeywordRows = new ArrayList<>();
+        Map<String, List<String>> addedKeywords = new LinkedHashMap<>();
+        // 조건이 추가/변경된 계정과목이 있으면 키워드와 무관하게 미분류 거래 전체를 다시 확인해야 함
+        boolean conditionsChanged = false;
+
+        for (RulesDto.CategoryRule categoryRule : categoryRules.values()) {
+            Company company = storedCompanies.get(categoryOwners.get(categoryRule.getCategoryId()));
+            Category category = storedCategories.get(categoryRule.getCategoryId());
+
+            RuleConditionsDto conditions = RuleCondition.normalize(categoryRule.getConditions());
+            if (category == null) {
+                category = new Category(categoryRule.getCategoryId(), categoryRule.getCategoryName(), company);
+                applyConditions(category, conditions);
+                conditionsChanged |= conditions != null;
+                category = categoryRepository.save(category);
+                log.info("Added category: {} ({})", categoryRule.getCategoryName(), categoryRule.getCategoryId());
+                changes++;
+            } else {
+                if (!category.getCategoryName().equals(categoryRule.getCategoryName())
+                        || !category.getCompany().getCompanyId().equals(company.getCompanyId())) {
+                    category.setCategoryName(categoryRule.getCategoryName());
+                    category.setCompany(company);
+                    log.info("Updated category: {} ({})", categoryRule.getCategoryName(), categoryRule.getCategoryId());
+                    changes++;
+                }
+                if (!Objects.equals(conditionsOf(category), conditions)) {
+                    applyConditions(category, conditions);
+                    conditionsChanged = true;
+                    log.info("Updated category conditions: {} ({})", categoryRule.getCategoryName(), categoryRule.getCategoryId());
+                    changes++;
+                }
+            }
+
+            Set<String> desiredKeywords = normalizeKeywords(categoryRule);
+            Set<String> keptKeywords = new HashSet<>();
+            for (Keyword keyword : storedKeywords.getOrDefault(categoryRule.getCategoryId(), List.of())) {
+                if (!desiredKeywords.contains(keyword.getKeyword()) || !keptKeywords.add(keyword.getKeyword())) {
+                    deletedKeywordIds.add(keyword.getId());
+                }
+            }
+            for (String keyword : desiredKeywords) {
+                if (!keptKeywords.contains(keyword)) {
+                    insertedKeywordRows.add(new Object[]{keyword, category.getId()});
+                    addedKeywords.computeIfAbsent(categoryRule.getCategoryId(), key -> new ArrayList<>()).add(keyword);
+                }
+            }
+        }
+
+        // 키워드 삭제/추가는 일괄 처리
+        if (!deletedKeywordIds.isEmpty()) {
+            keywordRepository.deleteAllByIdInBatch(deletedKeywordIds);
+        }
+        categoryRepository.flush();
+        keywordBatchRepository.batchInsert(insertedKeywordRows);
+        changes += deletedKeywordIds.size() + insertedKeywordRows.size();
+
+        ruleVersionRepository.save(new RuleVersion(version));
+
+        if (changes > 0) {
+            // 커밋 이후 2차 캐시의 규칙 데이터 무효화
+            evictRuleCachesAfterCommit();
+            eventPublisher.publishEvent(new RulesChangedEvent(version));
+        }
+
+        log.info("Rules synchronized (version {}): {} changes, keywords +{} -{}",
+                version, changes, insertedKeywordRows.size(), deletedKeywordIds.size());
+        return new RuleSyncResult(version, changes > 0, addedKeywords, conditionsChanged);
+    }
+
+    /**
+     * DB에 반영하지 않고 규칙 버전만 계산 (saveRulesToDatabase가 기록하는 값과 같음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String resolveRuleVersion(RulesDto rules) {
+        return computeRuleVersion(validateRules(rules));
+    }
+
+    /**
+     * 규칙 필수 필드 검증
+     * - 회사 ID/이름이 없으면 전체 요청을 거부하고, 계정과목 ID/이름이 없으면 해당 계정과목만 제외
+     */
+    private Map<RulesDto.CompanyRule, List<RulesDto.CategoryRule>> validateRules(RulesDto rules) {
+        if (rules == null || rules.getCompanies() == null) {
+            throw new IllegalArgumentException("Rules data is invalid or empty");
+        }
+
+        Map<RulesDto.CompanyRule, List<RulesDto.CategoryRule>> validRules = new LinkedHashMap<>();
+        for (RulesDto.CompanyRule companyRule : rules.getCompanies()) {
+            if (companyRule.getCompanyId() == null || companyRule.getCompanyId().trim().isEmpty()) {
+                log.error("Company ID is null or empty for company: {}", companyRule.getCompanyName());
+                throw new IllegalArgumentException("Company ID cannot be null or empty");
+            }
+
+            if (companyRule.getCompanyName() == null || companyRule.getCompanyName().trim().isEmpty()) {
+                log.error("Company name is null or empty for company ID: {}", companyRule.getCompanyId());
+                throw new IllegalArgumentException("Company name cannot be null or empty");
+            }
+
+            List<RulesDto.CategoryRule> categories = new ArrayList<>();
+            if (companyRule.getCategories() != null) {
+                for (RulesDto.CategoryRule categoryRule : companyRule.getCategories()) {
+                    if (categoryRule.getCategoryId() == null || categoryRule.getCategoryId().trim().isEmpty()) {
+                        log.error("Category ID is null or empty for category: {}", categoryRule.getCategoryName());
+                        continue; // 해당 카테고리 스킵
+                    }
+
+                    if (categoryRule.getCategoryName() == null || categoryRule.getCategoryName().trim().isEmpty()) {
+                        log.error("Category name is null or empty for category ID: {}", categoryRule.getCategoryId());
+                        continue; // 해당 카테고리 스킵
+                    }
+
+                    // 조건 값이 잘못되면 분류 결과가 달라지므로 전체 요청 거부
+                    try {
+                        RuleCondition.of(categoryRule.getConditions());
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Invalid conditions for category "
+                                + categoryRule.getCategoryId() + ": " + e.getMessage());
+                    }
+
+                    categories.add(categoryRule);
+                }
+            }
+            validRules.put(companyRule, categories);
+        }
+
+        return validRules;
+    }
+
+    /**
+     * 규칙 버전 해시 계산 (선언 순서를 포함한 정규화된 규칙 내용의 SHA-256)
+     */
+    private String computeRuleVersion(Map<RulesDto.CompanyRule, List<RulesDto.CategoryRule>> validRules) {
+        StringBuilder canonical = new StringBuilder();
+        validRules.forEach((companyRule, categories) -> {
+            canonical.append("C\u001f").append(companyRule.getCompanyId())
+                    .append('\u001f').append(companyRule.getCompanyName()).append('\n');
+            for (RulesDto.CategoryRule categoryRule : categories) {
+                canonical.append("G\u001f").append(categoryRule.getCategoryId())
+                        .append('\u001f').append(categoryRule.getCategoryName()).append('\n');
+                for (String keyword : normalizeKeywords(categoryRule)) {
+                    canonical.append("K\u001f").append(keyword).append('\n');
+                }
+                // 조건이 없는 규칙은 조건 도입 전과 같은 버전
+                appendConditions(canonical, RuleCondition.normalize(categoryRule.getConditions()));
+            }
+        });
+        return sha256(canonical);
+    }
+
+    /**
+     * 저장된 규칙 트리의 내용 해시 (같은 내용이면 같은 값, 마지막 업로드 파일과 무관)
+     */
+    private static String computeCatalogVersion(List<CompanyDto> companies) {
+        StringBuilder canonical = new StringBuilder();
+        for (CompanyDto company : companies) {
+            canonical.append("C\u001f").append(company.getCompanyId())
+                    .append('\u001f').append(company.getCompanyName()).append('\n');
+            for (CategoryDto category : company.getCategories()) {
+                canonical.append("G\u001f").append(category.getCategoryId())
+                        .append('\u001f').append(category.getCategoryName()).append('\n');
+                for (String keyword : category.getKeywords()) {
+                    canonical.append("K\u001f").append(keyword).append('\n');
+                }
+                appendConditions(canonical, category.getConditions());
+            }
+        }
+        return sha256(canonical);
+    }
+
+    private static void appendConditions(StringBuilder canonical, RuleConditionsDto conditions) {
+        if (conditions != null) {
+            canonical.append("W\u001f").append(conditions.getDirection())
+                    .append('\u001f').append(conditions.getMinAmount())
+                    .append('\u001f').append(conditions.getMaxAmount())
+                    .append('\u001f').append(conditions.getBranches())
+                    .append('\u001f').append(conditions.getTimeFrom())
+                    .append('\u001f').append(conditions.getTimeTo())
+                    .append('\u001f').append(conditions.getWeekdays()).append('\n');
+        }
+    }
+
+    private static String sha256(CharSequence canonical) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 키워드 정규화 (공백 제거, 빈 값/중복 제외, 선언 순서 유지)
+     */
+    private static Set<String> normalizeKeywords(RulesDto.CategoryRule categoryRule) {
+        Set<String> keywords = new LinkedHashSet<>();
+        if (categoryRule.getKeywords() != null) {
+            for (String keyword : categoryRule.getKeywords()) {
+                if (keyword != null && !keyword.trim().isEmpty()) {
+                    keywords.add(keyword.trim());
+                }
+            }
+        }
+        return keywords;
+    }
+
+    /**
+     * 전체 규칙 트리를 DTO 스냅샷으로 조회
+     * - 회사 수와 무관하게 회사, 계정과목, 키워드 각 1회 조회 후 메모리에서 조립
+     * - 버전은 조립한 규칙 트리의 내용 해시 (업로드 파일 해시는 변경 없는 업로드에도 기록되므로 쓰지 않음)
+     * - 규칙 변경 커밋 직후 다시 만들어 다음 변경까지 유지하므로, 복제 지연이 있는 읽기 DB가 아닌 primary에서 읽는다
+     *   (readOnly 트랜잭션은 읽기 DB로 라우팅됨)
+     */
+    @Transactional
+    public CompanyCatalogSnapshot loadCompanyCatalog() {
+        Map<Long, List<String>> keywordsByCategory = new HashMap<>();
+        for (Object[] row : keywordRepository.findAllCategoryKeywordPairs()) {
+            keywordsByCategory.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        Map<Long, List<CategoryDto>> categoriesByCompany = new HashMap<>();
+        for (Category category : categoryRepository.findAllOrderById()) {
+            CategoryDto dto = new CategoryDto();
+            dto.setId(category.getId());
+            dto.setCategoryId(category.getCategoryId());
+            dto.setCategoryName(category.getCategoryName());
+            dto.setCreatedAt(category.getCreatedAt());
+            dto.setUpdatedAt(category.getUpdatedAt());
+            dto.setKeywords(List.copyOf(keywordsByCategory.getOrDefault(category.getId(), List.of())));
+            dto.setConditions(conditionsOf(category));
+            categoriesByCompany.computeIfAbsent(category.getCompany().getId(), key -> new ArrayList<>()).add(dto);
+        }
+
+        List<CompanyDto> companies = new ArrayList<>();
+        for (Company company : companyRepository.findAll(Sort.by("id"))) {
+            CompanyDto dto = new CompanyDto();
+            dto.setId(company.getId());
+            dto.setCompanyId(company.getCompanyId());
+            dto.setCompanyName(company.getCompanyName());
+            dto.setCreatedAt(company.getCreatedAt());
+            dto.setUpdatedAt(company.getUpdatedAt());
+            dto.setCategories(List.copyOf(categoriesByCompany.getOrDefault(company.getId(), List.of())));
+            companies.add(dto);
+        }
+
+        return new CompanyCatalogSnapshot(computeCatalogVersion(companies), companies);
+    }
+
+    /**
+     * 저장된 계정과목 조건 (없으면 null)
+     */
+    private static RuleConditionsDto conditionsOf(Category category) {
+        if (category.getDirection() == null && category.getMinAmount() == null && category.getMaxAmount() == null
+                && category.getBranches() == null && category.getTimeFrom() == null && category.getWeekdays() == null) {
+            return null;
+        }
+
+        RuleConditionsDto conditions = new RuleConditionsDto();
+        conditions.setDirection(category.getDirection());
+        conditions.setMinAmount(category.getMinAmount());
+        conditions.setMaxAmount(category.getMaxAmount());
+        conditions.setBranches(category.getBranches() == null ? null : List.of(category.getBranches().split(",")));
+        conditions.setTimeFrom(category.getTimeFrom());
+        conditions.setTimeTo(category.getTimeTo());
+        conditions.setWeekdays(category.getWeekdays() == null ? null : List.of(category.getWeekdays().split(",")));
+        return conditions;
+    }
+
+    /**
+     * 정규화된 조건을 계정과목 컬럼에 반영 (null이면 조건 제거)
+     */
+    private static void applyConditions(Category category, RuleConditionsDto conditions) {
+        RuleConditionsDto values = conditions != null ? conditions : new RuleConditionsDto();
+        category.setDirection(values.getDirection());
+        category.setMinAmount(values.getMinAmount());
+        category.setMaxAmount(values.getMaxAmount());
+        category.setBranches(values.getBranches() == null ? null : String.join(",", values.getBranches()));
+        category.setTimeFrom(values.getTimeFrom());
+        category.setTimeTo(values.getTimeTo());
+        category.setWeekdays(values.getWeekdays() == null ? null : String.join(",", values.getWeekdays()));
+    }
+
+    /**
+     * 회사/계정과목/키워드 2차 캐시 무효화
+     * - 역방향 컬렉션(categories, keywords)은 자식 저장만으로 갱신되지 않으므로 명시적으로 비운다
+     */
+    private void evictRuleCachesAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictRuleCaches();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictRuleCaches();
+            }
+        });
+    }
+
+    private void evictRuleCaches() {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Company.class);
+        cache.evictEntityData(Category.class);
+        cache.evictEntityData(Keyword.class);
+        cache.evictCollectionData(Company.class.getName() + ".categories");
+        cache.evictCollectionData(Category.class.getName() + ".keywords");
+        log.debug("Evicted rule entities from second-level cache");
+    }
+}
@@ -0,0 +1,203 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 분류 규칙 스냅샷
+ * - 규칙 버전과 키워드 매처, 조건 평가 계획을 함께 보관하며 생성 이후 불변이므로 분류 스레드 간에 공유한다
+ * - 키워드 규칙을 먼저 확인하고, 맞는 키워드 규칙이 없으면 키워드 없이 조건만 있는 규칙을 확인한다
+ */
+public final class RuleSnapshot {
+
+    private final String version;
+    private final KeywordMatcher<Candidates> keywordMatcher;
+    // 조건이 있거나 여러 계정과목이 공유하는 키워드가 있으면 true (없으면 가장 긴 키워드 하나만 확인)
+    private final boolean conditional;
+    private final ConditionIndex conditionIndex;
+
+    private RuleSnapshot(String version, KeywordMatcher<Candidates> keywordMatcher, boolean conditional,
+                         ConditionIndex conditionIndex) {
+        this.version = version;
+        this.keywordMatcher = keywordMatcher;
+        this.conditional = conditional;
+        this.conditionIndex = conditionIndex;
+    }
+
+    /**
+     * 저장된 규칙 트리로 컴파일 (PK 순서를 선언 순서로 사용)
+     */
+    static RuleSnapshot compile(CompanyCatalogSnapshot catalog) {
+        return compile(catalog.getVersion(), catalog.getCompanies());
+    }
+
+    /**
+     * 저장된 규칙 중 일부 회사만 컴파일 (회사별 매처)
+     */
+    static RuleSnapshot compile(String version, List<CompanyDto> companies) {
+        Compiler compiler = new Compiler();
+
+        for (CompanyDto company : companies) {
+            for (CategoryDto category : company.getCategories()) {
+                CategoryInfo categoryInfo = new CategoryInfo(company.getCompanyId(), category.getCategoryId(),
+                        company.getId(), category.getId());
+                RuleCondition condition = RuleCondition.of(category.getConditions());
+                for (String keyword : category.getKeywords()) {
+                    compiler.addKeyword(keyword.toLowerCase(), categoryInfo, condition);
+                }
+                compiler.addConditionOnly(!category.getKeywords().isEmpty(), categoryInfo, condition);
+            }
+        }
+
+        return compiler.build(version);
+    }
+
+    /**
+     * 매처는 그대로 두고 버전만 바꾼 스냅샷 (규칙 내용이 같은데 버전만 바뀐 경우)
+     */
+    RuleSnapshot withVersion(String version) {
+        return version.equals(this.version) ? this
+                : new RuleSnapshot(version, keywordMatcher, conditional, conditionIndex);
+    }
+
+    CategoryInfo classify(BankTransactionDto transaction) {
+        return classify(transaction.getDescription(), transaction.getDepositAmount(), transaction.getWithdrawalAmount(),
+                transaction.getBranch(), transaction.getTransactionDate());
+    }
+
+    /**
+     * 거래 내역 분류 로직
+     * - 가장 긴 키워드 우선, 길이가 같으면 적요에서 먼저 등장한 키워드 우선
+     * - 키워드에 조건이 있으면 조건을 만족하는 계정과목 중 먼저 선언된 것, 모두 불만족이면 그다음으로 긴 키워드
+     * - 맞는 키워드 규칙이 없으면 조건만 있는 규칙 중 먼저 선언된 것
+     */
+    CategoryInfo classify(String description, Long depositAmount, Long withdrawalAmount, String branch,
+                          LocalDateTime transactionDate) {
+        RuleCondition.Input input = null;
+        if (description != null && !description.trim().isEmpty()) {
+            String text = description.toLowerCase();
+            if (!conditional) {
+                Candidates candidates = keywordMatcher.match(text);
+                if (candidates != null) {
+                    return candidates.values[0];
+                }
+            } else {
+                RuleCondition.Input attributes = new RuleCondition.Input(depositAmount, withdrawalAmount, branch,
+                        transactionDate);
+                CategoryInfo matched = keywordMatcher.match(text, candidates -> candidates.resolve(attributes));
+                if (matched != null) {
+                    return matched;
+                }
+                input = attributes;
+            }
+        }
+
+        if (conditionIndex.size() == 0) {
+            return null;
+        }
+        return conditionIndex.match(input != null ? input
+                : new RuleCondition.Input(depositAmount, withdrawalAmount, branch, transactionDate));
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int getKeywordCount() {
+        return keywordMatcher.size();
+    }
+
+    /**
+     * 한 키워드에 걸린 분류 대상 (선언 순서, 조건이 null이면 항상 만족)
+     */
+    private static final class Candidates {
+        final CategoryInfo[] values;
+        final RuleCondition[] conditions;
+
+        Candidates(CategoryInfo[] values, RuleCondition[] conditions) {
+            this.values = values;
+            this.conditions = conditions;
+        }
+
+        boolean isTerminal() {
+            return conditions[conditions.length - 1] == null;
+        }
+
+        Candidates append(CategoryInfo value, RuleCondition condition) {
+            CategoryInfo[] nextValues = Arrays.copyOf(values, values.length + 1);
+            RuleCondition[] nextConditions = Arrays.copyOf(conditions, conditions.length + 1);
+            nextValues[values.length] = value;
+            nextConditions[conditions.length] = condition;
+            return new Candidates(nextValues, nextConditions);
+        }
+
+        CategoryInfo resolve(RuleCondition.Input input) {
+            for (int i = 0; i < values.length; i++) {
+                if (conditions[i] == null || conditions[i].matches(input)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 키워드 → 분류 대상 묶음과 조건만 있는 규칙을 모아 스냅샷 생성
+     * - 같은 키워드를 쓰는 계정과목이 하나뿐이면 계정과목 단위 묶음을 키워드끼리 공유
+     */
+    private static final class Compiler {
+        private final Map<String, Candidates> keywords = new LinkedHashMap<>();
+        private final List<CategoryInfo> conditionValues = new ArrayList<>();
+        private final List<RuleCondition> conditions = new ArrayList<>();
+        private CategoryInfo lastValue;
+        private Candidates lastSingle;
+        private boolean conditional;
+
+        /**
+         * @return 등록되었으면 true, 앞서 조건 없이 선언된 계정과목이 있어 도달할 수 없으면 false
+         */
+        boolean addKeyword(String keyword, CategoryInfo value, RuleCondition condition) {
+            if (value != lastValue) {
+                lastValue = value;
+                lastSingle = new Candidates(new CategoryInfo[]{value}, new RuleCondition[]{condition});
+            }
+            conditional |= condition != null;
+
+            Candidates existing = keywords.get(keyword);
+            if (existing == null) {
+                keywords.put(keyword, lastSingle);
+                return true;
+            }
+            if (existing.isTerminal() || existing.values[existing.values.length - 1] == value) {
+                return false;
+            }
+            keywords.put(keyword, existing.append(value, condition));
+            return true;
+        }
+
+        /**
+         * 키워드가 없고 조건만 있는 계정과목 등록 (키워드도 조건도 없으면 무시)
+         */
+        void addConditionOnly(boolean hasKeywords, CategoryInfo value, RuleCondition condition) {
+            if (!hasKeywords && condition != null) {
+                conditionValues.add(value);
+                conditions.add(condition);
+            }
+        }
+
+        RuleSnapshot build(String version) {
+            KeywordMatcher.Builder<Candidates> builder = KeywordMatcher.builder();
+            keywords.forEach(builder::add);
+            return new RuleSnapshot(version, builder.build(), conditional,
+                    ConditionIndex.build(conditionValues, conditions));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package oncomm.accounting.service;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 규칙 동기화 결과
+ * - version: 정규화된 규칙 내용의 해시 (같은 규칙이면 같은 값)
+ * - changed: 실제로 DB 변경이 있었는지 여부
+ * - addedKeywords: 새로 추가된 키워드 (categoryId → 키워드 목록)
+ * - conditionsChanged: 조건이 추가/변경된 계정과목이 있는지 여부 (키워드 없는 조건 규칙도 있으므로 전체 재분류 필요)
+ */
+@Getter
+public class RuleSyncResult {
+
+    private final String version;
+    private final boolean changed;
+    private final Map<String, List<String>> addedKeywords;
+    private final boolean conditionsChanged;
+
+    RuleSyncResult(String version, boolean changed, Map<String, List<String>> addedKeywords, boolean conditionsChanged) {
+        this.version = version;
+        this.changed = changed;
+        this.addedKeywords = addedKeywords;
+        this.conditionsChanged = conditionsChanged;
+    }
+
+    static RuleSyncResult unchanged(String version) {
+        return new RuleSyncResult(version, false, Map.of(), false);
+    }
+}
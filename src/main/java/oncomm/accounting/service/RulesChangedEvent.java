@@ -0,0 +1,13 @@
+package oncomm.accounting.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 규칙 동기화로 회사/계정과목/키워드가 실제로 변경되었음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class RulesChangedEvent {
+    private final String version;
+}
@@ -0,0 +1,165 @@
+package oncomm.accounting.service;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 처리 대상 업로드 파일
+ * - 업로드 파일을 임시 파일로 옮겨 두고 (디스크에 저장된 멀티파트는 이동만 발생) 파일 채널로 버퍼링해 읽는다
+ * - .gz / .zip 업로드는 읽는 시점에 스트리밍으로 압축 해제하므로 힙 사용량이 파일 크기와 무관하다
+ * - 저장 직후 업로드 원본(압축 상태)의 SHA-256을 계산해 같은 파일 재업로드 판별에 사용
+ */
+public class SpooledUpload implements InputStreamSource, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 파일 이름 기준 압축 형식
+     */
+    public enum Compression {
+        NONE,
+        GZIP,
+        ZIP;
+
+        public static Compression fromFilename(String filename) {
+            String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".gz")) {
+                return GZIP;
+            }
+            if (name.endsWith(".zip")) {
+                return ZIP;
+            }
+            return NONE;
+        }
+    }
+
+    private final String originalFilename;
+    private final long size;
+    private final Compression compression;
+    private final Path spoolFile;
+    private final String checksum;
+
+    private SpooledUpload(String originalFilename, long size, Path spoolFile, String checksum) {
+        this.originalFilename = originalFilename;
+        this.size = size;
+        this.compression = Compression.fromFilename(originalFilename);
+        this.spoolFile = spoolFile;
+        this.checksum = checksum;
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 저장 (요청이 끝난 뒤에도 읽을 수 있음)
+     */
+    public static SpooledUpload spool(MultipartFile file) throws IOException {
+        Path spoolFile = Files.createTempFile("accounting-upload-", ".tmp");
+        try {
+            // 디스크에 저장된 멀티파트는 이동만 발생하므로 복사하면서 해시하는 것보다 한 번 더 읽는 편이 싸다
+            file.transferTo(spoolFile);
+            return new SpooledUpload(file.getOriginalFilename(), file.getSize(), spoolFile, sha256(spoolFile));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spoolFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 파일 채널로 순차 읽기하며 SHA-256 계산 (64자리 16진수)
+     */
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 압축 해제된 내용 스트림 (호출할 때마다 처음부터 읽음)
+     */
+    @Override
+    public InputStream getInputStream() throws IOException {
+        InputStream raw = new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(spoolFile, StandardOpenOption.READ)), BUFFER_SIZE);
+        try {
+            return switch (compression) {
+                case NONE -> raw;
+                case GZIP -> new BufferedInputStream(new GZIPInputStream(raw, BUFFER_SIZE), BUFFER_SIZE);
+                case ZIP -> openFirstCsvEntry(raw);
+            };
+        } catch (IOException | RuntimeException e) {
+            raw.close();
+            throw e;
+        }
+    }
+
+    /**
+     * ZIP 아카이브에서 첫 번째 CSV 항목 위치로 이동
+     */
+    private static InputStream openFirstCsvEntry(InputStream raw) throws IOException {
+        ZipInputStream zip = new ZipInputStream(raw);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (!entry.isDirectory() && entry.getName().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+                return new BufferedInputStream(zip, BUFFER_SIZE);
+            }
+        }
+        zip.close();
+        throw new IllegalArgumentException("ZIP archive does not contain a CSV file");
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    /**
+     * 업로드된(압축된) 파일 크기
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 업로드 원본의 SHA-256 (64자리 16진수)
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(spoolFile);
+    }
+}
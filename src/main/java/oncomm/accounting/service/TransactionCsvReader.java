@@ -0,0 +1,105 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 거래 내역 CSV 스트리밍 리더 (Apache Commons CSV 기반)
+ * - 파일 전체를 메모리에 올리지 않고 한 행씩 DTO로 변환한다
+ */
+class TransactionCsvReader implements TransactionReader {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Reader reader;
+    private final CSVParser parser;
+    private final Iterator<CSVRecord> records;
+
+    TransactionCsvReader(InputStream inputStream) throws IOException {
+        this.reader = skipByteOrderMark(new PushbackReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        this.parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader);
+        this.records = parser.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return records.hasNext();
+    }
+
+    @Override
+    public BankTransactionDto next() {
+        if (!records.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        CSVRecord record = records.next();
+        try {
+            BankTransactionDto dto = new BankTransactionDto();
+            dto.setTransactionDate(parseDateTime(record.get("거래일시")));
+            dto.setDescription(record.get("적요"));
+            dto.setDepositAmount(parseAmount(record.get("입금액")));
+            dto.setWithdrawalAmount(parseAmount(record.get("출금액")));
+            dto.setBalanceAfter(parseAmount(record.get("거래후잔액")));
+            dto.setBranch(record.get("거래점"));
+            return dto;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(
+                    "Invalid transaction row at line " + parser.getCurrentLineNumber() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int skip(int rows) {
+        int skipped = 0;
+        while (skipped < rows && records.hasNext()) {
+            records.next();
+            skipped++;
+        }
+        return skipped;
+    }
+
+    private static Reader skipByteOrderMark(PushbackReader reader) throws IOException {
+        int first = reader.read();
+        if (first != -1 && first != '\uFEFF') {
+            reader.unread(first);
+        }
+        return reader;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+        reader.close();
+    }
+
+    /**
+     * 거래일시 파싱 (yyyy-MM-dd HH:mm:ss)
+     */
+    static LocalDateTime parseDateTime(String value) {
+        return LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * 금액 파싱 (빈 값 처리, 천 단위 구분 쉼표 허용)
+     */
+    static Long parseAmount(String amount) {
+        if (amount == null || amount.trim().isEmpty()) {
+            return 0L;
+        }
+        String trimmed = amount.trim();
+        return Long.parseLong(trimmed.indexOf(',') >= 0 ? trimmed.replace(",", "") : trimmed);
+    }
+}
@@ -0,0 +1,41 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 거래 내역 중복 판별용 내용 지문
+ * - 기존 중복 기준(거래일시, 적요, 거래후잔액)을 SHA-256으로 요약한 64자리 16진수 문자열
+ */
+final class TransactionFingerprint {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private TransactionFingerprint() {
+    }
+
+    static String of(BankTransactionDto dto) {
+        return of(dto.getTransactionDate(), dto.getBalanceAfter(), dto.getDescription());
+    }
+
+    static String of(LocalDateTime transactionDate, Long balanceAfter, String description) {
+        String source = transactionDate + "|" + balanceAfter + "|" + description;
+
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return HEX.formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,87 @@
+package oncomm.accounting.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지문 컬럼 도입 이전에 만든 DB의 bank_transaction 마이그레이션 (MySQL)
+ * - schema.sql은 CREATE TABLE IF NOT EXISTS라 기존 테이블에는 fingerprint 컬럼이 추가되지 않으므로 기동 시 한 번 보정한다
+ * - 컬럼을 NULL 허용으로 추가 → 기존 행 지문을 ID 순 배치로 채움 → NOT NULL과 유니크 키 적용
+ * - 중간에 중단되어도 NULL 허용 상태로 남아 있으면 다음 기동에서 이어서 채운다
+ * - 같은 지문의 행이 이미 여러 건 있으면 유니크 키를 만들 수 없으므로 기동을 중단하고 정리 대상을 알린다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionFingerprintMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void migrate() {
+        // 테이블이 없으면 schema.sql이 지문 컬럼과 함께 생성
+        List<String> nullable = jdbcTemplate.queryForList(
+                "SELECT IS_NULLABLE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'bank_transaction' AND COLUMN_NAME = 'fingerprint'",
+                String.class);
+        boolean tableExists = !jdbcTemplate.queryForList(
+                "SELECT 1 FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'bank_transaction'",
+                Integer.class).isEmpty();
+        if (!tableExists || (!nullable.isEmpty() && "NO".equals(nullable.get(0)))) {
+            return;
+        }
+
+        if (nullable.isEmpty()) {
+            log.info("Adding fingerprint column to existing bank_transaction table");
+            jdbcTemplate.execute("ALTER TABLE bank_transaction ADD COLUMN fingerprint CHAR(64) NULL");
+        }
+
+        long backfilled = backfill();
+
+        List<String> duplicates = jdbcTemplate.queryForList(
+                "SELECT fingerprint FROM bank_transaction GROUP BY fingerprint HAVING COUNT(*) > 1 LIMIT 10",
+                String.class);
+        if (!duplicates.isEmpty()) {
+            throw new IllegalStateException("Existing bank_transaction rows share fingerprints " + duplicates
+                    + "; remove the duplicate rows and restart to finish the fingerprint migration");
+        }
+
+        jdbcTemplate.execute("ALTER TABLE bank_transaction MODIFY fingerprint CHAR(64) NOT NULL, " +
+                "ADD UNIQUE KEY uk_bank_transaction_fingerprint (fingerprint)");
+        log.info("Fingerprint migration completed: {} existing rows backfilled", backfilled);
+    }
+
+    /**
+     * 지문이 없는 행을 ID 순 키셋 배치로 채움 (수집과 같은 계산식)
+     */
+    private long backfill() {
+        long backfilled = 0;
+        long afterId = 0;
+        while (true) {
+            // 수집과 같이 LocalDateTime으로 읽어 시간대 변환 없이 같은 값으로 계산
+            List<Object[]> updates = jdbcTemplate.query(
+                    "SELECT id, transaction_date, balance_after, description FROM bank_transaction " +
+                    "WHERE fingerprint IS NULL AND id > ? ORDER BY id LIMIT " + BATCH_SIZE,
+                    (rs, rowNum) -> new Object[]{
+                            TransactionFingerprint.of(rs.getObject("transaction_date", LocalDateTime.class),
+                                    rs.getLong("balance_after"), rs.getString("description")),
+                            rs.getLong("id")},
+                    afterId);
+            if (updates.isEmpty()) {
+                return backfilled;
+            }
+
+            afterId = (Long) updates.get(updates.size() - 1)[1];
+            jdbcTemplate.batchUpdate("UPDATE bank_transaction SET fingerprint = ? WHERE id = ?", updates);
+            backfilled += updates.size();
+        }
+    }
+}
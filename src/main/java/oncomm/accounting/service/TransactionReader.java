@@ -0,0 +1,34 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 거래 내역 스트리밍 리더
+ * - 잘못된 행은 줄 번호를 포함한 IllegalArgumentException으로 알린다
+ */
+interface TransactionReader extends Iterator<BankTransactionDto>, Closeable {
+
+    /**
+     * 이미 처리된 행을 건너뜀 (재개 시 사용)
+     */
+    int skip(int rows);
+
+    /**
+     * 설정된 파서 엔진으로 리더 생성
+     * @param engine fast(전용 파서, 기본) / commons(Apache Commons CSV)
+     */
+    static TransactionReader open(InputStream inputStream, String engine) throws IOException {
+        if ("commons".equalsIgnoreCase(engine)) {
+            return new TransactionCsvReader(inputStream);
+        }
+        if ("fast".equalsIgnoreCase(engine)) {
+            return new FastTransactionCsvReader(inputStream);
+        }
+        throw new IllegalArgumentException("Unknown CSV engine: " + engine);
+    }
+}
@@ -12,6 +12,14 @@ CREATE TABLE IF NOT EXISTS category (
     category_id VARCHAR(50) NOT NULL UNIQUE,
     category_name VARCHAR(100) NOT NULL,
     company_id BIGINT NOT NULL,
+    -- 분류 조건 (모두 선택)
+    direction VARCHAR(10),
+    min_amount BIGINT,
+    max_amount BIGINT,
+    branches VARCHAR(500),
+    time_from TIME,
+    time_to TIME,
+    weekdays VARCHAR(30),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (company_id) REFERENCES company(id) ON DELETE CASCADE,
@@ -38,6 +46,7 @@ CREATE TABLE IF NOT EXISTS bank_transaction (
     company_id BIGINT NULL,
     category_id BIGINT NULL,
     is_classified BOOLEAN DEFAULT FALSE,
+    fingerprint CHAR(64) NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (company_id) REFERENCES company(id) ON DELETE SET NULL,
@@ -45,5 +54,88 @@ CREATE TABLE IF NOT EXISTS bank_transaction (
     KEY idx_bank_transaction_company_id (company_id),
     KEY idx_bank_transaction_category_id (category_id),
     KEY idx_bank_transaction_date (transaction_date),
-    KEY idx_bank_transaction_classified (is_classified)
+    KEY idx_bank_transaction_classified (is_classified),
+    KEY idx_bank_transaction_company_date_id (company_id, transaction_date, id),
+    KEY idx_bank_transaction_classified_date_id (is_classified, transaction_date, id),
+    UNIQUE KEY uk_bank_transaction_fingerprint (fingerprint),
+    FULLTEXT KEY ft_bank_transaction_description (description) WITH PARSER ngram
+);
+
+CREATE TABLE IF NOT EXISTS company_statistics (
+    company_id BIGINT PRIMARY KEY,
+    total_transactions BIGINT NOT NULL DEFAULT 0,
+    classified_transactions BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (company_id) REFERENCES company(id) ON DELETE CASCADE
+);
+
+-- 회사/계정과목/월별 입출금 합계 (청크 저장/재분류 트랜잭션에서 증분 갱신)
+CREATE TABLE IF NOT EXISTS monthly_rollup (
+    company_id BIGINT NOT NULL,
+    period CHAR(7) NOT NULL,
+    category_id BIGINT NOT NULL,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    deposit_total BIGINT NOT NULL DEFAULT 0,
+    withdrawal_total BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (company_id, period, category_id),
+    FOREIGN KEY (company_id) REFERENCES company(id) ON DELETE CASCADE,
+    FOREIGN KEY (category_id) REFERENCES category(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS archive_segment (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    company_id BIGINT NOT NULL,
+    period CHAR(7) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    row_count INT NOT NULL,
+    min_transaction_date DATETIME NOT NULL,
+    max_transaction_date DATETIME NOT NULL,
+    file_size BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (company_id) REFERENCES company(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_archive_segment_company_period (company_id, period)
+);
+
+CREATE TABLE IF NOT EXISTS archived_fingerprint (
+    fingerprint CHAR(64) PRIMARY KEY,
+    archive_segment_id BIGINT NOT NULL,
+    FOREIGN KEY (archive_segment_id) REFERENCES archive_segment(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS ingestion_run (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    run_id VARCHAR(36) NOT NULL UNIQUE,
+    file_name VARCHAR(255),
+    file_size BIGINT,
+    status VARCHAR(20) NOT NULL,
+    processed_rows INT NOT NULL DEFAULT 0,
+    classified_rows INT NOT NULL DEFAULT 0,
+    committed_chunks INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS ingestion_file (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    checksum CHAR(64) NOT NULL,
+    rule_version CHAR(64) NOT NULL,
+    idempotency_key VARCHAR(100) NULL,
+    file_name VARCHAR(255),
+    file_size BIGINT,
+    run_id VARCHAR(36) NOT NULL,
+    total_transactions INT NOT NULL DEFAULT 0,
+    classified_transactions INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_ingestion_file_checksum_rule_version (checksum, rule_version),
+    UNIQUE KEY uk_ingestion_file_idempotency_key (idempotency_key)
+);
+
+CREATE TABLE IF NOT EXISTS rule_version (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    version_hash CHAR(64) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    KEY idx_rule_version_hash (version_hash)
 );
@@ -0,0 +1,68 @@
+package oncomm.accounting.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicBoolean readPoolUsable = new AtomicBoolean(true);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing-primary");
+        DataSource read = h2("routing-read");
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, read, readPoolUsable::get, meterRegistry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReadPool() {
+        assertThat(currentDatabase(true)).isEqualTo("routing-read");
+        assertThat(currentDatabase(false)).isEqualTo("routing-primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM marker", String.class)).isEqualTo("routing-primary");
+
+        assertThat(meterRegistry.get("accounting.datasource.route").tag("target", "read").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReadPoolIsLagging() {
+        readPoolUsable.set(false);
+
+        assertThat(currentDatabase(true)).isEqualTo("routing-primary");
+        assertThat(meterRegistry.get("accounting.datasource.route").tag("target", "fallback").counter().count()).isEqualTo(1);
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(50))");
+        jdbcTemplate.update("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,115 @@
+package oncomm.accounting.repository;
+
+import oncomm.accounting.entity.BankTransaction;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 내역 저장 처리량 비교 (행 단위 INSERT vs JDBC 배치 INSERT)
+ * - ./gradlew benchmark 로 실행 (기본: H2 인메모리)
+ * - MySQL 대상: ./gradlew benchmark -Pbenchmark.jdbc.url=jdbc:mysql://...&rewriteBatchedStatements=true
+ *   -Pbenchmark.jdbc.username=... -Pbenchmark.jdbc.password=...
+ *   -Pbenchmark.jdbc.allow-wipe=true
+ *   (bank_transaction 테이블이 schema.sql로 생성되어 있어야 하며 실행 전후로 비워짐)
+ * - H2가 아닌 DB는 테이블을 비우므로 allow-wipe를 명시하지 않으면 실행을 거부 (개발/공유 DB 보호)
+ */
+@Tag("benchmark")
+class BankTransactionInsertBenchmark {
+
+    private static final String ROW_INSERT_SQL =
+            "INSERT INTO bank_transaction (transaction_date, description, deposit_amount, withdrawal_amount, " +
+            "balance_after, branch, company_id, category_id, is_classified, fingerprint) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final int rows = Integer.getInteger("benchmark.rows", 100_000);
+    private final int chunkSize = Integer.getInteger("benchmark.chunk-size", 1000);
+
+    @Test
+    void compareRowByRowAndBatchInsert() {
+        String url = System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        if (!url.startsWith("jdbc:h2:") && !Boolean.getBoolean("benchmark.jdbc.allow-wipe")) {
+            throw new IllegalStateException("Benchmark deletes all rows from bank_transaction on " + url
+                    + "; use a scratch database and pass -Pbenchmark.jdbc.allow-wipe=true");
+        }
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+                System.getProperty("benchmark.jdbc.username", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        BankTransactionBatchRepository batchRepository = new BankTransactionBatchRepository(jdbcTemplate);
+
+        if (url.startsWith("jdbc:h2:")) {
+            createH2Table(jdbcTemplate);
+        }
+
+        List<BankTransaction> transactions = sampleTransactions();
+
+        // 이전 방식: 행마다 개별 INSERT 왕복 (IDENTITY + save() 와 동일한 패턴)
+        jdbcTemplate.update("DELETE FROM bank_transaction");
+        long rowByRowNanos = measure(() -> {
+            for (int from = 0; from < transactions.size(); from += chunkSize) {
+                List<BankTransaction> chunk = transactions.subList(from, Math.min(from + chunkSize, transactions.size()));
+                transactionTemplate.executeWithoutResult(status -> chunk.forEach(t -> jdbcTemplate.update(ROW_INSERT_SQL,
+                        t.getTransactionDate(), t.getDescription(), t.getDepositAmount(), t.getWithdrawalAmount(),
+                        t.getBalanceAfter(), t.getBranch(), null, null, false, t.getFingerprint())));
+            }
+        });
+
+        // 현재 방식: 청크당 한 번의 JDBC 배치
+        jdbcTemplate.update("DELETE FROM bank_transaction");
+        long batchNanos = measure(() -> {
+            for (int from = 0; from < transactions.size(); from += chunkSize) {
+                List<BankTransaction> chunk = transactions.subList(from, Math.min(from + chunkSize, transactions.size()));
+                transactionTemplate.executeWithoutResult(status -> batchRepository.batchInsert(chunk));
+            }
+        });
+        jdbcTemplate.update("DELETE FROM bank_transaction");
+
+        System.out.printf("[%s] rows=%d chunk=%d%n", url, rows, chunkSize);
+        System.out.printf("  row-by-row insert : %,.0f rows/sec%n", rows / (rowByRowNanos / 1e9));
+        System.out.printf("  jdbc batch insert : %,.0f rows/sec%n", rows / (batchNanos / 1e9));
+    }
+
+    private List<BankTransaction> sampleTransactions() {
+        List<BankTransaction> transactions = new ArrayList<>(rows);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0, 0);
+        for (int i = 0; i < rows; i++) {
+            BankTransaction transaction = new BankTransaction(base.plusMinutes(i), "네이버페이(주) 정산 " + i,
+                    i % 2 == 0 ? 150_000L : 0L, i % 2 == 0 ? 0L : 25_000L, 1_000_000L + i, "온라인");
+            transaction.setFingerprint(String.format("%064x", i));
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    private static long measure(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void createH2Table(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS bank_transaction (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "transaction_date TIMESTAMP NOT NULL, " +
+                "description VARCHAR(500) NOT NULL, " +
+                "deposit_amount BIGINT DEFAULT 0, " +
+                "withdrawal_amount BIGINT DEFAULT 0, " +
+                "balance_after BIGINT NOT NULL, " +
+                "branch VARCHAR(100), " +
+                "company_id BIGINT NULL, " +
+                "category_id BIGINT NULL, " +
+                "is_classified BOOLEAN DEFAULT FALSE, " +
+                "fingerprint CHAR(64) NOT NULL UNIQUE, " +
+                "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+    }
+}
@@ -0,0 +1,143 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.AnalyticsResultDto;
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import oncomm.accounting.repository.BankTransactionAnalyticsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class AnalyticsServiceTest {
+
+    private static final long COMPANY_PK = 1L;
+    private static final long CATEGORY_PK = 11L;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private BankTransactionAnalyticsRepository analyticsRepository;
+    private ArchiveService archiveService;
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:analytics-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE bank_transaction (id BIGINT PRIMARY KEY, company_id BIGINT, " +
+                "transaction_date TIMESTAMP, deposit_amount BIGINT, withdrawal_amount BIGINT, branch VARCHAR(100), " +
+                "category_id BIGINT, is_classified BOOLEAN)");
+
+        analyticsRepository = spy(new BankTransactionAnalyticsRepository(jdbcTemplate));
+        archiveService = mock(ArchiveService.class);
+        CompanyCatalog companyCatalog = mock(CompanyCatalog.class);
+        when(companyCatalog.getSnapshot()).thenReturn(new CompanyCatalogSnapshot("test", List.of(company())));
+        analyticsService = new AnalyticsService(analyticsRepository, archiveService, companyCatalog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void keepsChunksCommittedWhileSnapshotLoads() throws Exception {
+        commit(1L, 1_000);
+        commit(2L, 2_000);
+
+        // high-water mark 조회 전에 ID를 받았지만 핫 테이블을 읽은 뒤에 커밋되는 청크
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> inFlight = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            insertAndAppend(3L, 4_000);
+            inserted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+        commit(4L, 8_000);
+
+        // 적재 도중 다른 스레드의 청크 커밋이 적재를 기다리지 않고 끝나야 함
+        doAnswer(invocation -> {
+            executor.submit(() -> commit(5L, 16_000)).get(5, TimeUnit.SECONDS);
+            return null;
+        }).when(archiveService).forEachSegment(eq(COMPANY_PK), any());
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            release.countDown();
+            inFlight.get(5, TimeUnit.SECONDS);
+            return null;
+        }).when(analyticsRepository).streamCompanyRows(eq(COMPANY_PK), anyLong(), any());
+
+        AnalyticsResultDto loaded = aggregate();
+
+        assertThat(loaded.getMatchedRows()).isEqualTo(5);
+        assertThat(loaded.getDepositTotal()).isEqualTo(31_000);
+
+        // 적재 이후 커밋은 게시된 스냅샷에 바로 덧붙음
+        commit(6L, 32_000);
+        AnalyticsResultDto appended = aggregate();
+
+        assertThat(appended.getMatchedRows()).isEqualTo(6);
+        assertThat(appended.getDepositTotal()).isEqualTo(63_000);
+    }
+
+    private AnalyticsResultDto aggregate() {
+        return analyticsService.aggregate("com_1", null, null, null, null, "none", "key", null);
+    }
+
+    private void commit(long id, long deposit) {
+        transactionTemplate.executeWithoutResult(status -> insertAndAppend(id, deposit));
+    }
+
+    private void insertAndAppend(long id, long deposit) {
+        LocalDateTime transactionDate = LocalDateTime.of(2025, 7, 1, 9, 0).plusDays(id);
+        jdbcTemplate.update("INSERT INTO bank_transaction (id, company_id, transaction_date, deposit_amount, " +
+                        "withdrawal_amount, branch, category_id, is_classified) VALUES (?, ?, ?, ?, 0, '강남', ?, TRUE)",
+                id, COMPANY_PK, Timestamp.valueOf(transactionDate), deposit, CATEGORY_PK);
+        analyticsService.appendAfterCommit(List.of(new AnalyticsRow(id, COMPANY_PK,
+                ArchiveSegmentFile.toEpochSecond(transactionDate), deposit, 0, "강남", CATEGORY_PK)));
+    }
+
+    private static CompanyDto company() {
+        CategoryDto category = new CategoryDto();
+        category.setId(CATEGORY_PK);
+        category.setCategoryId("cat_101");
+        category.setCategoryName("식비");
+        category.setKeywords(List.of());
+
+        CompanyDto company = new CompanyDto();
+        company.setId(COMPANY_PK);
+        company.setCompanyId("com_1");
+        company.setCompanyName("A 커머스");
+        company.setCategories(List.of(category));
+        return company;
+    }
+}
@@ -0,0 +1,97 @@
+package oncomm.accounting.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchiveSegmentFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsColumnsAndFooter() throws IOException {
+        ArchiveSegmentFile.Rows rows = new ArchiveSegmentFile.Rows();
+        // 일시 순서와 ID 순서가 달라 ID 차이가 음수, 잔액도 감소
+        rows.add(900L, LocalDateTime.parse("2024-03-01T09:00:00"), "스타벅스 강남점", 0, 5_800, 1_000_000, "강남", 11L, fingerprint(1));
+        rows.add(15L, LocalDateTime.parse("2024-03-02T00:00:00"), null, Long.MAX_VALUE, 0, -3_000, null, 12L, fingerprint(2));
+        rows.add(16L, LocalDateTime.parse("2024-03-02T00:00:00"), "", 0, 0, 0, "", 11L, fingerprint(3));
+        rows.add(7L, LocalDateTime.parse("2024-03-31T23:59:59"), "NAVER PAY", 1, 0, Long.MIN_VALUE / 2, "온라인", 99L, fingerprint(4));
+
+        Path file = directory.resolve("segment.seg");
+        ArchiveSegmentFile.Footer written = ArchiveSegmentFile.write(file, 3L, "2024-03", rows.sorted(),
+                Map.of(11L, new String[]{"cat_101", "식비"}, 12L, new String[]{"cat_102", "매출"}));
+        ArchiveSegmentFile.Rows read = ArchiveSegmentFile.read(file);
+
+        assertThat(read.size()).isEqualTo(4);
+        assertThat(read.ids).startsWith(900L, 15L, 16L, 7L);
+        assertThat(read.transactionDate(3)).isEqualTo(LocalDateTime.parse("2024-03-31T23:59:59"));
+        assertThat(read.descriptions).startsWith("스타벅스 강남점", null, "", "NAVER PAY");
+        assertThat(read.branches).startsWith("강남", null, "", "온라인");
+        assertThat(read.deposits).startsWith(0L, Long.MAX_VALUE, 0L, 1L);
+        assertThat(read.withdrawals).startsWith(5_800L, 0L, 0L, 0L);
+        assertThat(read.balances).startsWith(1_000_000L, -3_000L, 0L, Long.MIN_VALUE / 2);
+        assertThat(read.categoryPks).startsWith(11L, 12L, 11L, 99L);
+        assertThat(read.fingerprints).startsWith(fingerprint(1), fingerprint(2), fingerprint(3), fingerprint(4));
+
+        ArchiveSegmentFile.Footer footer = ArchiveSegmentFile.readFooter(file);
+        assertThat(footer.companyPk).isEqualTo(3L);
+        assertThat(footer.period).isEqualTo("2024-03");
+        assertThat(footer.rowCount).isEqualTo(4);
+        assertThat(footer.minTransactionDate).isEqualTo(LocalDateTime.parse("2024-03-01T09:00:00"));
+        assertThat(footer.maxTransactionDate).isEqualTo(LocalDateTime.parse("2024-03-31T23:59:59"));
+        // 사전은 처음 나온 순서, 규칙 트리에 없는 계정과목은 빈 ID/이름
+        assertThat(footer.categoryPks).containsExactly(11L, 12L, 99L);
+        assertThat(footer.categoryIds).containsExactly("cat_101", "cat_102", "");
+        assertThat(footer.categoryNames).containsExactly("식비", "매출", "");
+        assertThat(footer.columns).isEqualTo(written.columns);
+        assertThat(footer.columns).hasSize(9);
+    }
+
+    @Test
+    void sortedKeepsLatestRowForSameId() {
+        ArchiveSegmentFile.Rows existing = new ArchiveSegmentFile.Rows();
+        existing.add(2L, LocalDateTime.parse("2024-03-05T10:00:00"), "기존", 100, 0, 100, null, 11L, fingerprint(2));
+        existing.add(5L, LocalDateTime.parse("2024-03-09T10:00:00"), "유지", 200, 0, 300, null, 11L, fingerprint(5));
+
+        ArchiveSegmentFile.Rows merged = new ArchiveSegmentFile.Rows();
+        merged.addAll(existing);
+        merged.add(2L, LocalDateTime.parse("2024-03-05T10:00:00"), "갱신", 100, 0, 100, null, 12L, fingerprint(2));
+        merged.add(3L, LocalDateTime.parse("2024-03-01T08:00:00"), "추가", 0, 50, 50, null, 11L, fingerprint(3));
+
+        ArchiveSegmentFile.Rows sorted = merged.sorted();
+
+        assertThat(sorted.size()).isEqualTo(3);
+        assertThat(sorted.ids).startsWith(3L, 2L, 5L);
+        assertThat(sorted.descriptions).startsWith("추가", "갱신", "유지");
+        assertThat(sorted.lowerBound(ArchiveSegmentFile.toEpochSecond(LocalDateTime.parse("2024-03-05T10:00:00")), 3L))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        ArchiveSegmentFile.Rows rows = new ArchiveSegmentFile.Rows();
+        rows.add(1L, LocalDateTime.parse("2024-03-01T09:00:00"), "적요", 0, 1, 0, null, 11L, fingerprint(1));
+        Path file = directory.resolve("truncated.seg");
+        ArchiveSegmentFile.write(file, 3L, "2024-03", rows, Map.of());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        assertThatThrownBy(() -> ArchiveSegmentFile.read(file)).isInstanceOf(IOException.class);
+    }
+
+    private static String fingerprint(int seed) {
+        return String.format("%064x", seed);
+    }
+}
@@ -0,0 +1,181 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.AccountingRecordDto;
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import oncomm.accounting.entity.ArchiveSegment;
+import oncomm.accounting.repository.ArchiveBatchRepository;
+import oncomm.accounting.repository.ArchiveSegmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArchiveServiceTest {
+
+    private static final long COMPANY_PK = 1L;
+
+    @TempDir
+    Path directory;
+
+    private final List<ArchiveSegment> segments = new ArrayList<>();
+    private final List<Object> events = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:archive-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE bank_transaction (id BIGINT PRIMARY KEY, company_id BIGINT, " +
+                "transaction_date TIMESTAMP, description VARCHAR(255), deposit_amount BIGINT, withdrawal_amount BIGINT, " +
+                "balance_after BIGINT, branch VARCHAR(100), category_id BIGINT, fingerprint CHAR(64), is_classified BOOLEAN)");
+        jdbcTemplate.execute("CREATE TABLE archived_fingerprint (fingerprint CHAR(64) PRIMARY KEY, archive_segment_id BIGINT)");
+
+        // archive_segment는 메모리 목록으로 대신함
+        ArchiveSegmentRepository segmentRepository = mock(ArchiveSegmentRepository.class);
+        when(segmentRepository.findByCompanyPkAndPeriod(anyLong(), anyString())).thenAnswer(invocation -> segments.stream()
+                .filter(segment -> segment.getCompanyPk().equals(invocation.getArgument(0))
+                        && segment.getPeriod().equals(invocation.getArgument(1)))
+                .findFirst());
+        when(segmentRepository.saveAndFlush(any(ArchiveSegment.class))).thenAnswer(invocation -> {
+            ArchiveSegment segment = invocation.getArgument(0);
+            if (segment.getId() == null) {
+                segment.setId(segments.size() + 1L);
+                segments.add(segment);
+            }
+            return segment;
+        });
+        when(segmentRepository.findAllByOrderByCompanyPkAscPeriodAsc()).thenAnswer(invocation -> segments.stream()
+                .sorted(Comparator.comparing(ArchiveSegment::getCompanyPk).thenComparing(ArchiveSegment::getPeriod))
+                .toList());
+
+        CompanyCatalog companyCatalog = mock(CompanyCatalog.class);
+        when(companyCatalog.getSnapshot()).thenReturn(new CompanyCatalogSnapshot("test", List.of(company())));
+
+        ArchiveBatchRepository batchRepository = new ArchiveBatchRepository(jdbcTemplate);
+        archiveService = new ArchiveService(batchRepository, new ArchiveSegmentWriter(segmentRepository, batchRepository),
+                new ArchiveCatalog(segmentRepository), companyCatalog, events::add, directory.toString(), 12, 1_000_000);
+    }
+
+    @Test
+    void reArchivingPeriodReplacesSegment() {
+        insert(1L, "2020-01-05T09:00:00", "스타벅스 강남점", 11L, true);
+        insert(2L, "2020-01-20T18:30:00", "NAVER PAY", 12L, true);
+        insert(3L, "2020-01-21T10:00:00", "미분류 거래", null, false);
+
+        Map<String, Object> first = archiveService.archiveClosedMonths();
+
+        assertThat(first).containsEntry("archivedSegments", 1).containsEntry("archivedRows", 2L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM bank_transaction", Long.class)).containsExactly(3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM archived_fingerprint", Integer.class)).isEqualTo(2);
+        String firstFile = segments.get(0).getFilePath();
+
+        // 이미 아카이브된 달에 늦게 들어온 행
+        insert(4L, "2020-01-15T12:00:00", "Naver Pay 결제", 12L, true);
+        Map<String, Object> second = archiveService.archiveClosedMonths();
+
+        assertThat(second).containsEntry("archivedRows", 1L);
+        assertThat(segments).hasSize(1);
+        assertThat(segments.get(0).getRowCount()).isEqualTo(3);
+        assertThat(segments.get(0).getFilePath()).isNotEqualTo(firstFile);
+        assertThat(Files.exists(Paths.get(firstFile))).isFalse();
+        assertThat(Files.exists(Paths.get(segments.get(0).getFilePath()))).isTrue();
+        assertThat(archiveService.getArchivedRowCount(COMPANY_PK)).isEqualTo(3);
+        assertThat(events).hasSize(2);
+
+        assertThat(archiveService.findRecords(COMPANY_PK, false, null, null, 10))
+                .extracting(AccountingRecordDto::getId).containsExactly(1L, 4L, 2L);
+    }
+
+    @Test
+    void readsArchivedRecordsInOrder() {
+        insert(1L, "2020-01-05T09:00:00", "스타벅스 강남점", 11L, true);
+        insert(2L, "2020-01-20T18:30:00", "NAVER PAY", 12L, true);
+        insert(4L, "2020-01-15T12:00:00", "Naver Pay 결제", 12L, true);
+        insert(5L, "2020-02-01T00:00:00", "스타벅스 역삼점", 11L, true);
+        archiveService.archiveClosedMonths();
+
+        List<AccountingRecordDto> page = archiveService.findRecords(COMPANY_PK, true, null, null, 2);
+        assertThat(page).extracting(AccountingRecordDto::getId).containsExactly(5L, 2L);
+        assertThat(page.get(0).getCategoryId()).isEqualTo("cat_101");
+        assertThat(page.get(1).getCategoryName()).isEqualTo("매출");
+        assertThat(page.get(0).getCompanyId()).isEqualTo("com_1");
+
+        AccountingRecordDto last = page.get(1);
+        assertThat(archiveService.findRecords(COMPANY_PK, true, last.getTransactionDate(), last.getId(), 10))
+                .extracting(AccountingRecordDto::getId).containsExactly(4L, 1L);
+
+        Iterator<AccountingRecordDto> range = archiveService.iterateRecords(COMPANY_PK,
+                LocalDateTime.parse("2020-01-10T00:00:00"), LocalDateTime.parse("2020-02-01T00:00:00"));
+        List<Long> ids = new ArrayList<>();
+        range.forEachRemaining(record -> ids.add(record.getId()));
+        assertThat(ids).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void searchesArchivedDescriptions() {
+        insert(1L, "2020-01-05T09:00:00", "스타벅스 강남점", 11L, true);
+        insert(2L, "2020-01-20T18:30:00", "NAVER PAY", 12L, true);
+        insert(4L, "2020-01-15T12:00:00", "Naver Pay 결제", 12L, true);
+        insert(5L, "2020-02-01T00:00:00", "스타벅스 역삼점", 11L, true);
+        archiveService.archiveClosedMonths();
+
+        assertThat(archiveService.searchRecords("naver", null, null, null, null, null, 10))
+                .extracting(AccountingRecordDto::getId).containsExactly(2L, 4L);
+        assertThat(archiveService.searchRecords("스타벅스", COMPANY_PK, null, null, null, null, 1))
+                .extracting(AccountingRecordDto::getId).containsExactly(5L);
+        assertThat(archiveService.searchRecords("스타벅스", COMPANY_PK, null, LocalDate.parse("2020-01-31"), null, null, 10))
+                .extracting(AccountingRecordDto::getId).containsExactly(1L);
+        assertThat(archiveService.searchRecords("naver", COMPANY_PK, LocalDate.parse("2020-01-01"), null,
+                LocalDateTime.parse("2020-01-20T18:30:00"), 2L, 10))
+                .extracting(AccountingRecordDto::getId).containsExactly(4L);
+    }
+
+    private void insert(long id, String transactionDate, String description, Long categoryPk, boolean classified) {
+        jdbcTemplate.update("INSERT INTO bank_transaction (id, company_id, transaction_date, description, deposit_amount, " +
+                        "withdrawal_amount, balance_after, branch, category_id, fingerprint, is_classified) " +
+                        "VALUES (?, ?, ?, ?, 0, ?, ?, '강남', ?, ?, ?)",
+                id, COMPANY_PK, Timestamp.valueOf(LocalDateTime.parse(transactionDate)), description,
+                id * 1000, 1_000_000 - id * 1000, categoryPk, String.format("%064x", id), classified);
+    }
+
+    private static CompanyDto company() {
+        CompanyDto company = new CompanyDto();
+        company.setId(COMPANY_PK);
+        company.setCompanyId("com_1");
+        company.setCompanyName("A 커머스");
+        company.setCategories(List.of(category(11L, "cat_101", "식비"), category(12L, "cat_102", "매출")));
+        return company;
+    }
+
+    private static CategoryDto category(Long id, String categoryId, String categoryName) {
+        CategoryDto category = new CategoryDto();
+        category.setId(id);
+        category.setCategoryId(categoryId);
+        category.setCategoryName(categoryName);
+        category.setKeywords(List.of());
+        return category;
+    }
+}
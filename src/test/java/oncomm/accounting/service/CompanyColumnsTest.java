@@ -0,0 +1,64 @@
+package oncomm.accounting.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompanyColumnsTest {
+
+    private static long second(String dateTime) {
+        return ArchiveSegmentFile.toEpochSecond(LocalDateTime.parse(dateTime));
+    }
+
+    @Test
+    void groupsByCategoryWithinDateRange() {
+        CompanyColumns.Builder builder = new CompanyColumns.Builder();
+        builder.append(second("2025-07-01T09:00:00"), 1000, 0, "강남", 1L);
+        builder.append(second("2025-08-15T12:00:00"), 0, 300, "강남", 2L);
+        builder.append(second("2025-09-30T23:59:59"), 500, 0, "역삼", 1L);
+        builder.append(second("2025-10-01T00:00:00"), 7000, 0, "역삼", 1L);
+        CompanyColumns columns = builder.build();
+
+        CompanyColumns.Aggregation aggregation = columns.aggregate(second("2025-07-01T00:00:00"),
+                second("2025-10-01T00:00:00"), -1, -1, CompanyColumns.GroupBy.CATEGORY);
+
+        int first = columns.categoryCode(1L);
+        int second = columns.categoryCode(2L);
+        assertThat(aggregation.counts[first]).isEqualTo(2);
+        assertThat(aggregation.depositSums[first]).isEqualTo(1500);
+        assertThat(aggregation.withdrawalSums[second]).isEqualTo(300);
+    }
+
+    @Test
+    void filtersByBranchAndGroupsByMonth() {
+        CompanyColumns.Builder builder = new CompanyColumns.Builder();
+        builder.append(second("2025-01-10T10:00:00"), 0, 100, "강남", 1L);
+        builder.append(second("2025-03-10T10:00:00"), 0, 200, "강남", 1L);
+        builder.append(second("2025-03-11T10:00:00"), 0, 400, null, 1L);
+        CompanyColumns columns = builder.build();
+
+        CompanyColumns.Aggregation aggregation = columns.aggregate(Long.MIN_VALUE, Long.MAX_VALUE,
+                -1, columns.branchCode("강남"), CompanyColumns.GroupBy.MONTH);
+
+        assertThat(aggregation.counts).containsExactly(1, 0, 1);
+        assertThat(aggregation.withdrawalSums).containsExactly(100, 0, 200);
+        assertThat(aggregation.keyBase).isEqualTo(2025 * 12);
+    }
+
+    @Test
+    void previousViewIgnoresAppendedRows() {
+        CompanyColumns.Builder builder = new CompanyColumns.Builder();
+        builder.append(second("2025-01-10T10:00:00"), 100, 0, "강남", 1L);
+        CompanyColumns before = builder.build();
+        for (int i = 0; i < 5000; i++) {
+            builder.append(second("2025-01-11T10:00:00"), 1, 0, "강남", 1L);
+        }
+
+        assertThat(before.aggregate(Long.MIN_VALUE, Long.MAX_VALUE, -1, -1, CompanyColumns.GroupBy.NONE).depositSums)
+                .containsExactly(100);
+        assertThat(builder.build().aggregate(Long.MIN_VALUE, Long.MAX_VALUE, -1, -1, CompanyColumns.GroupBy.NONE).depositSums)
+                .containsExactly(5100);
+    }
+}
@@ -0,0 +1,80 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.RuleConditionsDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConditionIndexTest {
+
+    private static final LocalDateTime SATURDAY_NOON = LocalDateTime.of(2025, 7, 5, 12, 0);
+    private static final LocalDateTime MONDAY_NIGHT = LocalDateTime.of(2025, 7, 7, 23, 30);
+
+    private final CategoryInfo large = new CategoryInfo("com_1", "cat_large", 1L, 1L);
+    private final CategoryInfo weekend = new CategoryInfo("com_1", "cat_weekend", 1L, 2L);
+    private final CategoryInfo night = new CategoryInfo("com_1", "cat_night", 1L, 3L);
+
+    private final ConditionIndex index = ConditionIndex.build(List.of(large, weekend, night), List.of(
+            RuleCondition.of(condition("withdrawal", 1_000_000L, null, null, null, null, null)),
+            RuleCondition.of(condition("withdrawal", null, 9_999L, null, null, null, List.of("sat", "SUNDAY"))),
+            RuleCondition.of(condition(null, null, null, List.of(" 강남점 ", "온라인"),
+                    LocalTime.of(22, 0), LocalTime.of(6, 0), null))));
+
+    @Test
+    void matchesAmountRangeBoundsInclusively() {
+        assertThat(index.match(withdrawal(1_000_000L, "본점", MONDAY_NIGHT))).isEqualTo(large);
+        assertThat(index.match(withdrawal(9_999L, "본점", SATURDAY_NOON))).isEqualTo(weekend);
+        assertThat(index.match(withdrawal(10_000L, "본점", SATURDAY_NOON))).isNull();
+    }
+
+    @Test
+    void fallsThroughToLaterRuleWhenRemainingConditionsFail() {
+        assertThat(index.match(withdrawal(5_000L, "온라인", MONDAY_NIGHT))).isEqualTo(night);
+        assertThat(index.match(withdrawal(5_000L, "본점", MONDAY_NIGHT))).isNull();
+    }
+
+    @Test
+    void handlesTimeRangeAcrossMidnight() {
+        assertThat(index.match(new RuleCondition.Input(5_000L, 0L, "강남점", LocalDateTime.of(2025, 7, 7, 5, 59))))
+                .isEqualTo(night);
+        assertThat(index.match(new RuleCondition.Input(5_000L, 0L, "강남점", LocalDateTime.of(2025, 7, 7, 6, 0))))
+                .isNull();
+    }
+
+    @Test
+    void normalizesAndValidatesConditions() {
+        RuleConditionsDto normalized = RuleCondition.normalize(
+                condition("WITHDRAWAL", null, 9_999L, List.of("온라인", "온라인"), null, null, List.of("sun", "mon")));
+        assertThat(normalized.getDirection()).isEqualTo("withdrawal");
+        assertThat(normalized.getBranches()).containsExactly("온라인");
+        assertThat(normalized.getWeekdays()).containsExactly("MON", "SUN");
+        assertThat(RuleCondition.normalize(new RuleConditionsDto())).isNull();
+
+        assertThatThrownBy(() -> RuleCondition.of(condition("refund", null, null, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RuleCondition.of(condition(null, 10L, 1L, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RuleCondition.Input withdrawal(long amount, String branch, LocalDateTime transactionDate) {
+        return new RuleCondition.Input(0L, amount, branch, transactionDate);
+    }
+
+    private static RuleConditionsDto condition(String direction, Long minAmount, Long maxAmount, List<String> branches,
+                                               LocalTime timeFrom, LocalTime timeTo, List<String> weekdays) {
+        RuleConditionsDto dto = new RuleConditionsDto();
+        dto.setDirection(direction);
+        dto.setMinAmount(minAmount);
+        dto.setMaxAmount(maxAmount);
+        dto.setBranches(branches);
+        dto.setTimeFrom(timeFrom);
+        dto.setTimeTo(timeTo);
+        dto.setWeekdays(weekdays);
+        return dto;
+    }
+}
@@ -0,0 +1,90 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastTransactionCsvReaderTest {
+
+    private static final String HEADER = "거래일시,적요,입금액,출금액,거래후잔액,거래점\r\n";
+
+    @Test
+    void producesSameRowsAsCommonsEngine() throws IOException {
+        String csv = "\uFEFF" + HEADER
+                + "2025-01-02 09:10:11,\"네이버페이(주), 정산\",\"1,500,000\",,\"2,000,000\",강남점\r\n"
+                + "\r\n"
+                + "2025-01-03 10:00:00,\"여러 줄\n적요 \"\"인용\"\"\", , 25000 ,1975000, 온라인 \r\n"
+                + "2025-01-04 23:59:59,스타벅스,,4500,1970500,";
+
+        List<BankTransactionDto> fast = readAll("fast", csv);
+        List<BankTransactionDto> commons = readAll("commons", csv);
+
+        assertThat(fast).hasSize(3).isEqualTo(commons);
+        assertThat(fast.get(0).getDescription()).isEqualTo("네이버페이(주), 정산");
+        assertThat(fast.get(0).getDepositAmount()).isEqualTo(1_500_000L);
+        assertThat(fast.get(1).getDescription()).isEqualTo("여러 줄\n적요 \"인용\"");
+        assertThat(fast.get(1).getBranch()).isEqualTo(" 온라인 ");
+        assertThat(fast.get(2).getTransactionDate()).isEqualTo(LocalDateTime.of(2025, 1, 4, 23, 59, 59));
+    }
+
+    @Test
+    void resolvesColumnsByHeaderName() throws IOException {
+        String csv = "거래점,거래후잔액,출금액,입금액,적요,거래일시\n상암,100,,5,쿠팡,2025-02-02 02:02:02\n";
+
+        BankTransactionDto dto = readAll("fast", csv).get(0);
+
+        assertThat(dto.getBranch()).isEqualTo("상암");
+        assertThat(dto.getDescription()).isEqualTo("쿠팡");
+        assertThat(dto.getDepositAmount()).isEqualTo(5L);
+        assertThat(dto.getWithdrawalAmount()).isZero();
+        assertThat(dto.getBalanceAfter()).isEqualTo(100L);
+    }
+
+    @Test
+    void reportsLineNumberOfInvalidRow() throws IOException {
+        String csv = HEADER
+                + "2025-01-02 09:10:11,정상,1000,,1000,강남점\n"
+                + "2025-13-01 00:00:00,잘못된 날짜,1000,,2000,강남점\n";
+
+        try (TransactionReader reader = open("fast", csv)) {
+            reader.next();
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("line 3");
+        }
+    }
+
+    @Test
+    void skipsAlreadyProcessedRows() throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 10; i++) {
+            csv.append("2025-01-01 00:00:0").append(i).append(",적요").append(i).append(',').append(i).append(",,0,\n");
+        }
+
+        try (TransactionReader reader = open("fast", csv.toString())) {
+            assertThat(reader.skip(7)).isEqualTo(7);
+            assertThat(reader.next().getDescription()).isEqualTo("적요7");
+        }
+    }
+
+    private static List<BankTransactionDto> readAll(String engine, String csv) throws IOException {
+        List<BankTransactionDto> rows = new ArrayList<>();
+        try (TransactionReader reader = open(engine, csv)) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private static TransactionReader open(String engine, String csv) throws IOException {
+        return TransactionReader.open(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), engine);
+    }
+}
@@ -0,0 +1,70 @@
+package oncomm.accounting.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordMatcherTest {
+
+    @Test
+    void returnsLongestMatchingKeyword() {
+        KeywordMatcher.Builder<String> builder = KeywordMatcher.builder();
+        builder.add("네이버", "cat_1");
+        builder.add("네이버페이", "cat_2");
+        builder.add("페이", "cat_3");
+        KeywordMatcher<String> matcher = builder.build();
+
+        assertThat(matcher.match("네이버페이(주)")).isEqualTo("cat_2");
+        assertThat(matcher.match("네이버 쇼핑")).isEqualTo("cat_1");
+        assertThat(matcher.match("카카오페이")).isEqualTo("cat_3");
+        assertThat(matcher.match("스타벅스")).isNull();
+    }
+
+    @Test
+    void findsKeywordsThroughFailureLinks() {
+        KeywordMatcher.Builder<String> builder = KeywordMatcher.builder();
+        builder.add("abcd", "long");
+        builder.add("bc", "short");
+        KeywordMatcher<String> matcher = builder.build();
+
+        assertThat(matcher.match("xabcx")).isEqualTo("short");
+        assertThat(matcher.match("abcabcd")).isEqualTo("long");
+    }
+
+    @Test
+    void prefersEarliestOccurrenceForEqualLength() {
+        KeywordMatcher.Builder<String> builder = KeywordMatcher.builder();
+        builder.add("쿠팡", "cat_1");
+        builder.add("배민", "cat_2");
+        KeywordMatcher<String> matcher = builder.build();
+
+        assertThat(matcher.match("배민 쿠팡")).isEqualTo("cat_2");
+        assertThat(matcher.match("쿠팡 배민")).isEqualTo("cat_1");
+    }
+
+    @Test
+    void keepsFirstRegisteredValueForDuplicateKeyword() {
+        KeywordMatcher.Builder<String> builder = KeywordMatcher.builder();
+        assertThat(builder.add("쿠팡", "cat_1")).isTrue();
+        assertThat(builder.add("쿠팡", "cat_2")).isFalse();
+        assertThat(builder.add("", "cat_3")).isFalse();
+        KeywordMatcher<String> matcher = builder.build();
+
+        assertThat(matcher.size()).isEqualTo(1);
+        assertThat(matcher.match("(주)쿠팡")).isEqualTo("cat_1");
+    }
+
+    @Test
+    void fallsBackToShorterKeywordWhenResolverRejects() {
+        KeywordMatcher.Builder<String> builder = KeywordMatcher.builder();
+        builder.add("네이버페이", "cat_2");
+        builder.add("페이", "cat_3");
+        builder.add("네이버", "cat_1");
+        KeywordMatcher<String> matcher = builder.build();
+
+        assertThat(matcher.<String>match("네이버페이(주)", value -> value)).isEqualTo("cat_2");
+        assertThat(matcher.<String>match("네이버페이(주)", value -> value.equals("cat_2") ? null : value)).isEqualTo("cat_1");
+        assertThat(matcher.<String>match("네이버페이(주)", value -> value.equals("cat_3") ? value : null)).isEqualTo("cat_3");
+        assertThat(matcher.<String>match("네이버페이(주)", value -> null)).isNull();
+    }
+}
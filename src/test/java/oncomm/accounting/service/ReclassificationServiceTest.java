@@ -0,0 +1,112 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import oncomm.accounting.dto.ReclassificationJobDto;
+import oncomm.accounting.dto.RuleConditionsDto;
+import oncomm.accounting.repository.BankTransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReclassificationServiceTest {
+
+    private final Map<String, List<Long>> applied = new HashMap<>();
+    private BankTransactionRepository bankTransactionRepository;
+    private ReclassificationService reclassificationService;
+
+    @BeforeEach
+    void setUp() {
+        bankTransactionRepository = mock(BankTransactionRepository.class);
+        ReclassificationBatchWriter batchWriter = mock(ReclassificationBatchWriter.class);
+        when(batchWriter.apply(any())).thenAnswer(invocation -> {
+            Map<CategoryInfo, List<Long>> matches = invocation.getArgument(0);
+            matches.forEach((category, ids) -> applied.put(category.categoryId, ids));
+            return matches.values().stream().mapToInt(List::size).sum();
+        });
+        RuleRegistry ruleRegistry = mock(RuleRegistry.class);
+        when(ruleRegistry.getGlobal()).thenReturn(RuleSnapshot.compile("v2", List.of(company())));
+
+        reclassificationService = new ReclassificationService(bankTransactionRepository, batchWriter, ruleRegistry,
+                1000, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reclassificationService.shutdown();
+    }
+
+    @Test
+    void conditionChangeReclassifiesRowsWithoutKeywordMatch() throws Exception {
+        LocalDateTime date = LocalDateTime.parse("2025-07-01T10:00:00");
+        when(bankTransactionRepository.findUnclassifiedRows(anyLong(), any(Limit.class))).thenReturn(List.of(
+                new Object[]{1L, "홍길동", 0L, 3_000_000L, "강남", date},
+                new Object[]{2L, "홍길동", 0L, 50_000L, "강남", date},
+                new Object[]{3L, "김철수", 2_000_000L, 0L, "역삼", date}));
+
+        // 조건만 바뀌고 추가된 키워드는 없는 동기화 결과
+        ReclassificationJobDto job = reclassificationService.submit(new RuleSyncResult("v2", true, Map.of(), true));
+
+        assertThat(job).isNotNull();
+        assertThat(job.getAddedKeywords()).isNull();
+        assertThat(await(job.getJobId()).getStatus()).isEqualTo("COMPLETED");
+        assertThat(applied).containsOnlyKeys("cat_201");
+        assertThat(applied.get("cat_201")).containsExactly(1L);
+    }
+
+    @Test
+    void skipsWhenNothingToReclassify() {
+        assertThat(reclassificationService.submit(RuleSyncResult.unchanged("v2"))).isNull();
+    }
+
+    private ReclassificationJobDto await(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            ReclassificationJobDto job = reclassificationService.getJob(jobId).orElseThrow();
+            if (job.getStatus().equals("COMPLETED") || job.getStatus().equals("FAILED")) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("reclassification job did not finish");
+    }
+
+    private static CompanyDto company() {
+        RuleConditionsDto conditions = new RuleConditionsDto();
+        conditions.setDirection("withdrawal");
+        conditions.setMinAmount(1_000_000L);
+
+        CategoryDto transfer = new CategoryDto();
+        transfer.setId(21L);
+        transfer.setCategoryId("cat_201");
+        transfer.setCategoryName("고액 이체");
+        transfer.setKeywords(List.of());
+        transfer.setConditions(conditions);
+
+        CategoryDto food = new CategoryDto();
+        food.setId(22L);
+        food.setCategoryId("cat_202");
+        food.setCategoryName("식비");
+        food.setKeywords(List.of("스타벅스"));
+
+        CompanyDto company = new CompanyDto();
+        company.setId(2L);
+        company.setCompanyId("com_2");
+        company.setCompanyName("B 물류");
+        company.setCategories(List.of(transfer, food));
+        return company;
+    }
+}
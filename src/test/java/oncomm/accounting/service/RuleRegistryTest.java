@@ -0,0 +1,92 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.BankTransactionDto;
+import oncomm.accounting.dto.CategoryDto;
+import oncomm.accounting.dto.CompanyDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RuleRegistryTest {
+
+    private CompanyCatalog companyCatalog;
+    private RuleRegistry ruleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        companyCatalog = mock(CompanyCatalog.class);
+        ruleRegistry = new RuleRegistry(companyCatalog);
+    }
+
+    @Test
+    void isolatesSharedKeywordPerCompany() {
+        when(companyCatalog.getSnapshot()).thenReturn(new CompanyCatalogSnapshot("v1", List.of(
+                company(1L, "com_1", category(11L, "cat_101", "스타벅스")),
+                company(2L, "com_2", category(21L, "cat_201", "스타벅스")))));
+
+        assertThat(ruleRegistry.getCompany("com_1").classify(transaction("스타벅스 강남점")).categoryId).isEqualTo("cat_101");
+        assertThat(ruleRegistry.getCompany("com_2").classify(transaction("스타벅스 강남점")).categoryId).isEqualTo("cat_201");
+        // 전체 매처는 회사 PK 순서상 먼저 선언된 규칙 우선
+        assertThat(ruleRegistry.getGlobal().classify(transaction("스타벅스 강남점")).categoryId).isEqualTo("cat_101");
+        assertThatThrownBy(() -> ruleRegistry.getCompany("com_3")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recompilesOnlyChangedCompanies() {
+        CompanyDto unchanged = company(1L, "com_1", category(11L, "cat_101", "스타벅스"));
+        when(companyCatalog.getSnapshot()).thenReturn(new CompanyCatalogSnapshot("v1", List.of(
+                unchanged, company(2L, "com_2", category(21L, "cat_201", "쿠팡")))));
+        RuleSnapshot first = ruleRegistry.getCompany("com_1");
+        RuleSnapshot firstGlobal = ruleRegistry.getGlobal();
+
+        // 같은 스냅샷인 동안에는 다시 적재하지 않음
+        assertThat(ruleRegistry.getCompany("com_1")).isSameAs(first);
+        assertThat(ruleRegistry.getGlobal()).isSameAs(firstGlobal);
+
+        // 규칙 변경 후 CompanyCatalog가 새 스냅샷을 반환
+        when(companyCatalog.getSnapshot()).thenReturn(new CompanyCatalogSnapshot("v2", List.of(
+                unchanged, company(2L, "com_2", category(21L, "cat_201", "쿠팡", "배달의민족")))));
+
+        assertThat(ruleRegistry.getVersion()).isEqualTo("v2");
+        assertThat(ruleRegistry.getCompany("com_1")).isSameAs(first);
+        assertThat(ruleRegistry.getCompany("com_2").classify(transaction("배달의민족 주문")).categoryId)
+                .isEqualTo("cat_201");
+        assertThat(ruleRegistry.getGlobal()).isNotSameAs(firstGlobal);
+        assertThat(ruleRegistry.getGlobal().classify(transaction("배달의민족 주문")).categoryId).isEqualTo("cat_201");
+    }
+
+    private static BankTransactionDto transaction(String description) {
+        BankTransactionDto transaction = new BankTransactionDto();
+        transaction.setTransactionDate(LocalDateTime.parse("2025-07-01T10:00:00"));
+        transaction.setDescription(description);
+        transaction.setDepositAmount(0L);
+        transaction.setWithdrawalAmount(5_000L);
+        transaction.setBranch("강남");
+        return transaction;
+    }
+
+    private static CompanyDto company(Long id, String companyId, CategoryDto category) {
+        CompanyDto company = new CompanyDto();
+        company.setId(id);
+        company.setCompanyId(companyId);
+        company.setCompanyName(companyId);
+        company.setCategories(List.of(category));
+        return company;
+    }
+
+    private static CategoryDto category(Long id, String categoryId, String... keywords) {
+        CategoryDto category = new CategoryDto();
+        category.setId(id);
+        category.setCategoryId(categoryId);
+        category.setCategoryName(categoryId);
+        category.setKeywords(List.of(keywords));
+        return category;
+    }
+}
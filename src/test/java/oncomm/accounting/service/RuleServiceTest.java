@@ -0,0 +1,171 @@
+package oncomm.accounting.service;
+
+import oncomm.accounting.dto.RuleConditionsDto;
+import oncomm.accounting.dto.RulesDto;
+import oncomm.accounting.entity.Category;
+import oncomm.accounting.entity.Company;
+import oncomm.accounting.entity.Keyword;
+import oncomm.accounting.entity.RuleVersion;
+import oncomm.accounting.repository.CategoryRepository;
+import oncomm.accounting.repository.CompanyRepository;
+import oncomm.accounting.repository.KeywordBatchRepository;
+import oncomm.accounting.repository.KeywordRepository;
+import oncomm.accounting.repository.RuleVersionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RuleServiceTest {
+
+    private final Company company = new Company("com_1", "A 커머스");
+    private final Category category = new Category("cat_101", "식비", company);
+    private final List<Keyword> storedKeywords = new ArrayList<>();
+
+    private CategoryRepository categoryRepository;
+    private KeywordRepository keywordRepository;
+    private KeywordBatchRepository keywordBatchRepository;
+    private RuleVersionRepository ruleVersionRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private Cache cache;
+    private RuleService ruleService;
+
+    @BeforeEach
+    void setUp() {
+        company.setId(1L);
+        category.setId(11L);
+        storedKeywords.add(keyword(101L, "스타벅스"));
+        storedKeywords.add(keyword(102L, "커피빈"));
+
+        CompanyRepository companyRepository = mock(CompanyRepository.class);
+        when(companyRepository.findByCompanyIdIn(anyCollection())).thenReturn(List.of(company));
+        categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findByCategoryIdInWithCompany(anyCollection())).thenReturn(List.of(category));
+        keywordRepository = mock(KeywordRepository.class);
+        when(keywordRepository.findByCategoryIdInWithCategory(anyCollection())).thenReturn(storedKeywords);
+        keywordBatchRepository = mock(KeywordBatchRepository.class);
+        ruleVersionRepository = mock(RuleVersionRepository.class);
+        when(ruleVersionRepository.findTopByOrderByIdDesc()).thenReturn(Optional.empty());
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        // 트랜잭션 동기화가 없으면 2차 캐시를 바로 비움
+        cache = mock(Cache.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+
+        ruleService = new RuleService(companyRepository, categoryRepository, keywordRepository, keywordBatchRepository,
+                ruleVersionRepository, entityManagerFactory, eventPublisher);
+    }
+
+    @Test
+    void skipsResyncWithSameVersion() {
+        RulesDto rules = rules(null, "스타벅스", "커피빈");
+        when(ruleVersionRepository.findTopByOrderByIdDesc())
+                .thenReturn(Optional.of(new RuleVersion(ruleService.resolveRuleVersion(rules))));
+
+        RuleSyncResult result = ruleService.saveRulesToDatabase(rules);
+
+        assertThat(result.isChanged()).isFalse();
+        assertThat(result.getAddedKeywords()).isEmpty();
+        assertThat(result.isConditionsChanged()).isFalse();
+        verifyNoInteractions(categoryRepository, keywordRepository, keywordBatchRepository, eventPublisher, cache);
+        verify(ruleVersionRepository, never()).save(any());
+    }
+
+    @Test
+    void deletesRemovedKeyword() {
+        RuleSyncResult result = ruleService.saveRulesToDatabase(rules(null, "스타벅스"));
+
+        assertThat(result.isChanged()).isTrue();
+        assertThat(result.getAddedKeywords()).isEmpty();
+        assertThat(result.isConditionsChanged()).isFalse();
+        verify(keywordRepository).deleteAllByIdInBatch(List.of(102L));
+        assertThat(insertedRows()).isEmpty();
+        verify(ruleVersionRepository).save(any(RuleVersion.class));
+        verifyRulesChanged();
+    }
+
+    @Test
+    void insertsAddedKeyword() {
+        RuleSyncResult result = ruleService.saveRulesToDatabase(rules(null, "스타벅스", " 커피빈 ", "이디야", "이디야"));
+
+        assertThat(result.isChanged()).isTrue();
+        assertThat(result.getAddedKeywords()).containsOnlyKeys("cat_101");
+        assertThat(result.getAddedKeywords().get("cat_101")).containsExactly("이디야");
+        assertThat(result.isConditionsChanged()).isFalse();
+        verify(keywordRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(insertedRows()).singleElement().satisfies(row -> assertThat(row).containsExactly("이디야", 11L));
+        verifyRulesChanged();
+    }
+
+    @Test
+    void reportsChangedConditions() {
+        RuleConditionsDto conditions = new RuleConditionsDto();
+        conditions.setDirection("WITHDRAWAL");
+        conditions.setMinAmount(1_000_000L);
+
+        RuleSyncResult result = ruleService.saveRulesToDatabase(rules(conditions, "스타벅스", "커피빈"));
+
+        assertThat(result.isChanged()).isTrue();
+        assertThat(result.getAddedKeywords()).isEmpty();
+        assertThat(result.isConditionsChanged()).isTrue();
+        assertThat(category.getDirection()).isEqualTo("withdrawal");
+        assertThat(category.getMinAmount()).isEqualTo(1_000_000L);
+        assertThat(insertedRows()).isEmpty();
+        verifyRulesChanged();
+    }
+
+    private List<Object[]> insertedRows() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(keywordBatchRepository).batchInsert(rows.capture());
+        return rows.getValue();
+    }
+
+    private void verifyRulesChanged() {
+        verify(eventPublisher).publishEvent(any(RulesChangedEvent.class));
+        verify(cache).evictEntityData(Keyword.class);
+        verify(cache).evictCollectionData(Category.class.getName() + ".keywords");
+    }
+
+    private Keyword keyword(Long id, String value) {
+        Keyword keyword = new Keyword(value, category);
+        keyword.setId(id);
+        return keyword;
+    }
+
+    private static RulesDto rules(RuleConditionsDto conditions, String... keywords) {
+        RulesDto.CategoryRule categoryRule = new RulesDto.CategoryRule();
+        categoryRule.setCategoryId("cat_101");
+        categoryRule.setCategoryName("식비");
+        categoryRule.setKeywords(List.of(keywords));
+        categoryRule.setConditions(conditions);
+
+        RulesDto.CompanyRule companyRule = new RulesDto.CompanyRule();
+        companyRule.setCompanyId("com_1");
+        companyRule.setCompanyName("A 커머스");
+        companyRule.setCategories(List.of(categoryRule));
+
+        RulesDto rules = new RulesDto();
+        rules.setCompanies(List.of(companyRule));
+        return rules;
+    }
+}